@@ -10,6 +10,20 @@ const API_PREFIX = '/api';
 app.use(cors());
 app.use(bodyParser.json());
 
+// HTTP caching: Express hashes every response body into an ETag and answers a matching
+// If-None-Match (or If-Modified-Since, given Last-Modified) with 304 Not Modified
+app.set('etag', 'strong');
+const DATA_LOADED_AT = new Date().toUTCString();
+
+// Cache-Control for a route; lastModified adds a Last-Modified header for data fixed at startup
+function cacheFor(cacheControl, lastModified = false) {
+  return (req, res, next) => {
+    res.set('Cache-Control', cacheControl);
+    if (lastModified) res.set('Last-Modified', DATA_LOADED_AT);
+    next();
+  };
+}
+
 // In-memory stores (demo)
 const users = new Map(); // token -> user
 const usersByUsername = new Map(); // username -> user
@@ -62,6 +76,44 @@ const news = [
   }
 ];
 
+// Policy-tracking demo data, keyed by tag
+const tags = [
+  { tagId: 1, tagName: 'oil' },
+  { tagId: 2, tagName: 'gold' },
+  { tagId: 3, tagName: 'technology' },
+  { tagId: 4, tagName: 'agriculture' }
+];
+
+const legislation = [
+  { legId: 1, billType: 'hr', billNumber: '101', refCode: 'H.R. 101', tagId: 1, title: 'Energy Security Act', summary: 'Promotes domestic oil production.', policyArea: 'Energy', currentStatus: 'Introduced' },
+  { legId: 2, billType: 's', billNumber: '42', refCode: 'S. 42', tagId: 3, title: 'Semiconductor Supply Chain Act', summary: 'Incentives for domestic chip fabrication.', policyArea: 'Commerce', currentStatus: 'Passed Senate' },
+  { legId: 3, billType: 'COD', billNumber: '0123', refCode: '2024/0123(COD)', tagId: 4, title: 'Sustainable Farming Regulation', summary: 'Common rules for crop subsidies.', policyArea: 'Agriculture', currentStatus: 'In Committee' }
+];
+
+const committees = [
+  { comId: 1, govId: 1, name: 'Energy and Natural Resources', officialCode: 'SSEG', tagId: 1 },
+  { comId: 2, govId: 1, name: 'Commerce, Science, and Transportation', officialCode: 'SSCM', tagId: 3 },
+  { comId: 3, govId: 2, name: 'Agriculture and Rural Development', officialCode: 'AGRI', tagId: 4 }
+];
+
+const hearings = [
+  { matId: 1, comId: 1, legId: 1, materialType: 'Hearing', title: 'Oversight of Strategic Petroleum Reserve' },
+  { matId: 2, comId: 2, legId: 2, materialType: 'Hearing', title: 'Chip Manufacturing Capacity' }
+];
+
+const nominations = [
+  { nomId: 1, memId: 10, positionTitle: 'Secretary of Energy', targetOrganization: 'Department of Energy', tagId: 1, currentStatus: 'Received', member: { memId: 10, firstName: 'Alex', lastName: 'Rivera' } }
+];
+
+const treaties = [
+  { treatyId: 1, govId: 1, officialNumber: 'TD 118-1', title: 'Critical Minerals Agreement', foreignPartner: 'Australia', tagId: 2, currentStatus: 'Pending' }
+];
+
+function tagIdsFor(names) {
+  const wanted = (Array.isArray(names) ? names : []).map(n => String(n).toLowerCase());
+  return new Set(tags.filter(t => wanted.includes(t.tagName.toLowerCase())).map(t => t.tagId));
+}
+
 // Helper: create demo AuthResponse style object
 function makeAuthResponse(user, token) {
   return {
@@ -119,7 +171,7 @@ function authMiddleware(req, res, next) {
 }
 
 // Users: get current
-app.get(`${API_PREFIX}/users/me`, authMiddleware, (req, res) => {
+app.get(`${API_PREFIX}/users/me`, authMiddleware, cacheFor('private, no-store'), (req, res) => {
   res.json(req.user);
 });
 
@@ -132,47 +184,49 @@ app.put(`${API_PREFIX}/users/me`, authMiddleware, (req, res) => {
 });
 
 // Countries
-app.get(`${API_PREFIX}/countries`, (req, res) => {
+app.get(`${API_PREFIX}/countries`, cacheFor('public, max-age=300', true), (req, res) => {
   res.json(countries);
 });
 
-app.get(`${API_PREFIX}/countries/:code`, (req, res) => {
+app.get(`${API_PREFIX}/countries/:code`, cacheFor('public, max-age=300', true), (req, res) => {
   const c = countries.find(x => x.code.toLowerCase() === req.params.code.toLowerCase());
   if (!c) return res.status(404).json({ message: 'Not found' });
   res.json(c);
 });
 
-app.get(`${API_PREFIX}/countries/:code/warnings`, (req, res) => {
+app.get(`${API_PREFIX}/countries/:code/warnings`, cacheFor('public, no-cache'), (req, res) => {
   const c = countries.find(x => x.code.toLowerCase() === req.params.code.toLowerCase());
   if (!c) return res.status(404).json({ message: 'Not found' });
   res.json(c.warnings || []);
 });
 
 // News
-app.get(`${API_PREFIX}/news/personalized`, authMiddleware, (req, res) => {
+app.get(`${API_PREFIX}/news/personalized`, authMiddleware, cacheFor('private, no-cache'), (req, res) => {
+  res.vary('Authorization');
   // For demo return all with small personalization score
   const personalized = news.map(n => ({ ...n, relevanceScore: Math.random() }));
   res.json(personalized);
 });
 
-app.get(`${API_PREFIX}/news/general`, (req, res) => {
+app.get(`${API_PREFIX}/news/general`, cacheFor('public, no-cache'), (req, res) => {
   res.json(news.filter(n => n.category === 'general' || !n.category));
 });
 
-app.get(`${API_PREFIX}/news/country/:code`, (req, res) => {
+app.get(`${API_PREFIX}/news/country/:code`, cacheFor('public, no-cache'), (req, res) => {
   const code = req.params.code.toUpperCase();
   res.json(news.filter(n => n.countryCode && n.countryCode.toUpperCase() === code));
 });
 
-app.get(`${API_PREFIX}/news/region/:region`, (req, res) => {
+app.get(`${API_PREFIX}/news/region/:region`, cacheFor('public, no-cache'), (req, res) => {
   const region = req.params.region.toLowerCase();
   res.json(news.filter(n => n.region && n.region.toLowerCase() === region));
 });
 
-app.get(`${API_PREFIX}/news/search`, (req, res) => {
+app.get(`${API_PREFIX}/news/search`, cacheFor('public, no-cache'), (req, res) => {
   const q = (req.query.q || '').toLowerCase();
   const country = (req.query.country || '').toLowerCase();
   const region = (req.query.region || '').toLowerCase();
+  const limit = parseInt(req.query.limit, 10) || 50;
 
   let results = news.filter(n => {
     let ok = true;
@@ -181,7 +235,28 @@ app.get(`${API_PREFIX}/news/search`, (req, res) => {
     if (region) ok = ok && (n.region || '').toLowerCase() === region;
     return ok;
   });
-  res.json(results);
+  res.json(results.slice(0, limit));
+});
+
+// Dashboard: every section for a tag set in one response
+app.post(`${API_PREFIX}/dashboard/bundle`, (req, res) => {
+  const ids = tagIdsFor(req.body);
+  const comIds = new Set(committees.filter(c => ids.has(c.tagId)).map(c => c.comId));
+  const bundle = {
+    legislation: legislation.filter(l => ids.has(l.tagId)),
+    hearings: hearings.filter(h => comIds.has(h.comId)),
+    nominations: nominations.filter(n => ids.has(n.tagId)),
+    committees: committees.filter(c => ids.has(c.tagId)),
+    treaties: treaties.filter(t => ids.has(t.tagId))
+  };
+  bundle.stats = {
+    totalLegislation: bundle.legislation.length,
+    totalHearings: bundle.hearings.length,
+    totalNominations: bundle.nominations.length,
+    totalTreaties: bundle.treaties.length,
+    totalCommittees: bundle.committees.length
+  };
+  res.json(bundle);
 });
 
 // Fallback
@@ -0,0 +1,74 @@
+#!/bin/sh
+# Build a self-contained runtime image of Orwel in target/image:
+#   runtime/    jlinked JDK + JavaFX with only the modules the app uses, plus the default CDS archive
+#   lib/        application jar and its non-JavaFX dependencies (classpath)
+#   lib/orwel.jsa  dynamic AppCDS archive from a training run through Landing -> Login -> Dashboard
+#   bin/orwel   launcher that uses both
+#
+# Normally run by `mvn -Pruntime-image package`, which copies the dependencies to target/runtime-deps first.
+# The training run opens a window; on a headless machine run it under xvfb-run.
+# Set SKIP_TRAINING=1 to build the image without the archive.
+set -e
+
+PROJECT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+TARGET="$PROJECT_DIR/target"
+DEPS="$TARGET/runtime-deps"
+IMAGE="$TARGET/image"
+APP_JAR=$(ls "$TARGET"/orwel-frontend-*.jar 2>/dev/null | head -n 1)
+
+# Reported by `jdeps --print-module-deps` for the app classes, plus what the libraries need at runtime:
+# java.logging (OkHttp), jdk.unsupported (Gson, Kotlin), jdk.crypto.ec (TLS to Supabase)
+MODULES=java.base,java.desktop,java.management,java.scripting,java.sql,java.logging,jdk.jfr,jdk.unsupported,jdk.crypto.ec,javafx.controls,javafx.fxml
+
+if [ -z "$APP_JAR" ] || [ ! -d "$DEPS" ]; then
+    echo "Application jar or $DEPS missing; run: mvn -Pruntime-image package" >&2
+    exit 1
+fi
+
+# Platform jars only (javafx-controls-21-linux.jar); the unclassified javafx-controls-21.jar is an empty placeholder
+javafx_jars() {
+    ls "$DEPS"/javafx-*.jar | grep -E -- '-(linux|mac|win)[^/]*\.jar$'
+}
+
+rm -rf "$IMAGE"
+mkdir -p "$IMAGE/lib" "$IMAGE/bin"
+
+echo "Linking runtime ($MODULES)"
+# The JavaFX jars are modular and carry their native libraries, so they link straight from the module path
+jlink \
+    --module-path "$(javafx_jars | tr '\n' ':')" \
+    --add-modules "$MODULES" \
+    --strip-debug \
+    --no-header-files \
+    --no-man-pages \
+    --compress=2 \
+    --output "$IMAGE/runtime"
+
+# Default CDS archive of the JDK classes; the dynamic archive below is layered on top of it
+# (jlink --generate-cds-archive only exists from JDK 18)
+"$IMAGE/runtime/bin/java" -Xshare:dump > /dev/null
+
+cp "$APP_JAR" "$IMAGE/lib/orwel.jar"
+for jar in "$DEPS"/*.jar; do
+    case "$(basename "$jar")" in
+        javafx-*) ;;  # linked into the runtime
+        *) cp "$jar" "$IMAGE/lib/" ;;
+    esac
+done
+cp "$PROJECT_DIR/scripts/orwel" "$IMAGE/bin/orwel"
+chmod +x "$IMAGE/bin/orwel"
+
+if [ "$SKIP_TRAINING" = "1" ]; then
+    echo "Skipping training run; $IMAGE/bin/orwel will start without an AppCDS archive"
+    exit 0
+fi
+
+echo "Training run for the AppCDS archive"
+# Through the launcher itself so the archived classpath matches later launches exactly
+ORWEL_JAVA_OPTS="-XX:ArchiveClassesAtExit=$IMAGE/lib/orwel.jsa -Dorwel.cds.training=true" "$IMAGE/bin/orwel"
+
+if [ -f "$IMAGE/lib/orwel.jsa" ]; then
+    echo "Runtime image ready: $IMAGE/bin/orwel ($(du -sh "$IMAGE" | cut -f1))"
+else
+    echo "Training run produced no archive; the image works but starts without AppCDS" >&2
+fi
@@ -0,0 +1,47 @@
+#!/bin/sh
+# Compare cold-start time to interactive of the plain jar against the runtime image (jlink + AppCDS)
+# Both run in startup-check mode, which quits once the landing page is up and prints its time to interactive.
+# Usage: scripts/measure-startup.sh [runs]   (after mvn -Pruntime-image package; needs a display or xvfb-run)
+set -e
+
+RUNS=${1:-5}
+PROJECT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+TARGET="$PROJECT_DIR/target"
+DEPS="$TARGET/runtime-deps"
+APP_JAR=$(ls "$TARGET"/orwel-frontend-*.jar | head -n 1)
+CHECK_OPTS="-Dorwel.startup.check=true -Dorwel.startup.maxTtiMs=600000"
+
+FX_PATH=$(ls "$DEPS"/javafx-*.jar | grep -E -- '-(linux|mac|win)[^/]*\.jar$' | tr '\n' ':')
+PLAIN_CP="$APP_JAR"
+for jar in "$DEPS"/*.jar; do
+    case "$(basename "$jar")" in
+        javafx-*) ;;
+        *) PLAIN_CP="$PLAIN_CP:$jar" ;;
+    esac
+done
+
+tti() {
+    "$@" 2>&1 | sed -n 's/^Time to interactive: \([0-9.]*\) ms.*/\1/p'
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+measure() {
+    label=$1
+    shift
+    results=""
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        results="$results$(tti "$@")
+"
+        i=$((i + 1))
+    done
+    printf '%-28s median %8s ms   runs: %s\n' "$label" "$(printf '%s' "$results" | median)" "$(printf '%s' "$results" | tr '\n' ' ')"
+}
+
+measure "plain jar" java $CHECK_OPTS --module-path "$FX_PATH" --add-modules javafx.controls,javafx.fxml \
+    -cp "$PLAIN_CP" com.orwel.Main
+export ORWEL_JAVA_OPTS="$CHECK_OPTS"
+measure "runtime image + AppCDS" "$TARGET/image/bin/orwel"
@@ -0,0 +1,189 @@
+package com.orwel.bench;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.orwel.model.Legislation;
+import com.orwel.model.NewsArticle;
+import com.orwel.model.Tag;
+import com.orwel.service.ModelAdapters;
+import com.orwel.service.ModelTypes;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decodes synthetic snake_case API payloads with reflective Gson (field naming policy, as the
+ * clients used before) and with the precompiled {@link ModelAdapters}, and reports time and
+ * allocation per decode plus the one-time cost of building the adapters
+ * Run with {@code mvn -Pdecode-bench compile exec:exec}. Options: {@code -Dorwel.bench.items}
+ * (rows per payload, default {@value #DEFAULT_ITEMS}) and {@code -Dorwel.bench.iterations}
+ * (default {@value #DEFAULT_ITERATIONS})
+ */
+public class DecodeBenchmark {
+    private static final int DEFAULT_ITEMS = 500;
+    private static final int DEFAULT_ITERATIONS = 200;
+    private static final int WARM_UP_ITERATIONS = 200;
+    private static final int SETUP_ITERATIONS = 1000;
+
+    private record Result(double medianMs, double bytesPerDecode) {
+    }
+
+    // The decoders under test; each call builds a new Gson, for timing adapter setup
+    private static Gson precompiledGson() {
+        return ModelAdapters.createGson(true);
+    }
+
+    private static Gson reflectiveGson() {
+        Gson precompiled = ModelAdapters.createGson(true);
+        return new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                // java.time can't be read reflectively on JDK 17; both decoders share these adapters
+                .registerTypeAdapter(LocalDate.class, precompiled.getAdapter(LocalDate.class))
+                .registerTypeAdapter(LocalDateTime.class, precompiled.getAdapter(LocalDateTime.class))
+                .create();
+    }
+
+    public static void main(String[] args) {
+        int items = Integer.getInteger("orwel.bench.items", DEFAULT_ITEMS);
+        int iterations = Integer.getInteger("orwel.bench.iterations", DEFAULT_ITERATIONS);
+
+        Gson precompiled = precompiledGson();
+        Gson reflective = reflectiveGson();
+
+        String legislation = precompiled.toJson(legislation(items), ModelTypes.LEGISLATION_LIST);
+        String news = precompiled.toJson(news(items), ModelTypes.NEWS_LIST);
+
+        System.out.println("Decoding " + items + "-row payloads, median of " + iterations
+                + " runs after " + WARM_UP_ITERATIONS + " warm-up runs:");
+        System.out.println(String.format("  %-12s %8s %-12s %10s %12s %14s", "payload", "size", "decoder",
+                "per decode", "allocated", "adapter setup"));
+        report("legislation", legislation, ModelTypes.LEGISLATION_LIST, reflective, precompiled, iterations);
+        report("news", news, ModelTypes.NEWS_LIST, reflective, precompiled, iterations);
+    }
+
+    private static void report(String name, String json, Type type, Gson reflective, Gson precompiled, int iterations) {
+        // Both decoders must read the payload the same way for the comparison to mean anything
+        String viaReflection = precompiled.toJson(reflective.fromJson(json, type), type);
+        String viaAdapters = precompiled.toJson(precompiled.fromJson(json, type), type);
+        if (!viaReflection.equals(viaAdapters)) {
+            System.out.println("  " + name + ": decoders disagree, skipping");
+            return;
+        }
+
+        String size = json.getBytes(StandardCharsets.UTF_8).length / 1024 + " KB";
+        Result[] results = measure(json, type, new Gson[] { reflective, precompiled }, iterations);
+        Result before = results[0];
+        Result after = results[1];
+        System.out.println(String.format("  %-12s %8s %-12s %7.3f ms %9.1f KB %11.1f us", name, size, "reflective",
+                before.medianMs(), before.bytesPerDecode() / 1024, setupMicros(type, DecodeBenchmark::reflectiveGson)));
+        System.out.println(String.format("  %-12s %8s %-12s %7.3f ms %9.1f KB %11.1f us", "", "", "precompiled",
+                after.medianMs(), after.bytesPerDecode() / 1024, setupMicros(type, DecodeBenchmark::precompiledGson)));
+    }
+
+    /**
+     * Median time for a new Gson instance to build its adapter for the type, paid once per
+     * instance on the first decode (the reflective factory walks the model's fields here)
+     */
+    private static double setupMicros(Type type, Supplier<Gson> factory) {
+        double[] timings = new double[SETUP_ITERATIONS];
+        for (int i = -WARM_UP_ITERATIONS; i < SETUP_ITERATIONS; i++) {
+            Gson gson = factory.get();
+            long started = System.nanoTime();
+            gson.getAdapter(TypeToken.get(type));
+            if (i >= 0) {
+                timings[i] = (System.nanoTime() - started) / 1e3;
+            }
+        }
+        Arrays.sort(timings);
+        return timings[SETUP_ITERATIONS / 2];
+    }
+
+    /**
+     * Time the decoders in alternation, so neither runs on JIT profiles skewed by the other
+     */
+    private static Result[] measure(String json, Type type, Gson[] decoders, int iterations) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            for (Gson gson : decoders) {
+                gson.fromJson(json, type);
+            }
+        }
+        double[][] timings = new double[decoders.length][iterations];
+        long[] allocated = new long[decoders.length];
+        for (int i = 0; i < iterations; i++) {
+            for (int d = 0; d < decoders.length; d++) {
+                long allocatedBefore = currentThreadAllocatedBytes();
+                long started = System.nanoTime();
+                decoders[d].fromJson(json, type);
+                timings[d][i] = (System.nanoTime() - started) / 1e6;
+                allocated[d] += currentThreadAllocatedBytes() - allocatedBefore;
+            }
+        }
+        Result[] results = new Result[decoders.length];
+        for (int d = 0; d < decoders.length; d++) {
+            Arrays.sort(timings[d]);
+            results[d] = new Result(timings[d][iterations / 2], allocated[d] / (double) iterations);
+        }
+        return results;
+    }
+
+    private static List<Legislation> legislation(int count) {
+        List<Legislation> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Legislation leg = new Legislation();
+            leg.setLegId(i);
+            leg.setBillType("HR");
+            leg.setBillNumber(String.valueOf(1000 + i));
+            leg.setRefCode("HR-" + (1000 + i));
+            leg.setTagId(i % 20);
+            leg.setTitle("Act " + i + " on strategic commodity reserves");
+            leg.setSummary("Establishes reporting requirements for reserves of critical commodities, "
+                    + "and directs the department to publish quarterly figures.");
+            leg.setPolicyArea("Energy");
+            leg.setSponsorGovMemId(i % 50);
+            leg.setDateIntroduced(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            leg.setCurrentStatus("In committee");
+            Tag tag = new Tag();
+            tag.setTagName("tag-" + (i % 20));
+            leg.setTag(tag);
+            rows.add(leg);
+        }
+        return rows;
+    }
+
+    private static List<NewsArticle> news(int count) {
+        List<NewsArticle> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            NewsArticle article = new NewsArticle();
+            article.setId((long) i);
+            article.setTitle("Article " + i + ": commodity markets react to new trade measures");
+            article.setSummary("Analysts expect prices to move as the measures take effect over the coming quarter.");
+            article.setSource(i % 2 == 0 ? "Reuters" : "Bloomberg");
+            article.setAuthor("Staff");
+            article.setPublishedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusHours(i));
+            article.setUrl("https://example.com/news/" + i);
+            article.setTags(new String[] { "oil", "gold" });
+            article.setCountryCode(i % 3 == 0 ? "US" : "DE");
+            article.setRegion("Europe");
+            article.setCategory("markets");
+            article.setRelevanceScore((i % 100) / 100.0);
+            rows.add(article);
+        }
+        return rows;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
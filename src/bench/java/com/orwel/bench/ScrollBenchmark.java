@@ -0,0 +1,200 @@
+package com.orwel.bench;
+
+import com.orwel.model.CommitteeMaterial;
+import com.orwel.model.Legislation;
+import com.orwel.model.NewsArticle;
+import com.orwel.model.Nomination;
+import com.orwel.model.Treaty;
+import com.orwel.service.LocalSearchIndex;
+import com.orwel.view.NewsArticleCell;
+import com.orwel.view.UpdateCell;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.stage.Stage;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scrolls a list of synthetic items at a fixed speed and reports dropped frames and the FX thread's
+ * allocation rate, for comparing list cell implementations
+ * Run with {@code mvn -Pscroll-bench compile javafx:run} (on CI, wrap in xvfb-run). Options:
+ * {@code -Dorwel.bench.list=news|updates}, {@code -Dorwel.bench.items} (default {@value #DEFAULT_ITEMS}),
+ * {@code -Dorwel.bench.seconds} (default {@value #DEFAULT_SECONDS}) and {@code -Dorwel.bench.pixelsPerFrame}
+ */
+public class ScrollBenchmark extends Application {
+    private static final int DEFAULT_ITEMS = 500;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int DEFAULT_PIXELS_PER_FRAME = 40;
+    private static final long WARM_UP_NANOS = 2_000_000_000L;
+    private static final double FRAME_NANOS = 1_000_000_000.0 / 60;
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    @Override
+    public void start(Stage stage) {
+        String list = System.getProperty("orwel.bench.list", "news");
+        int items = Integer.getInteger("orwel.bench.items", DEFAULT_ITEMS);
+        long measureNanos = Integer.getInteger("orwel.bench.seconds", DEFAULT_SECONDS) * 1_000_000_000L;
+        int pixelsPerFrame = Integer.getInteger("orwel.bench.pixelsPerFrame", DEFAULT_PIXELS_PER_FRAME);
+
+        ListView<?> listView = "updates".equals(list) ? updatesList(items) : newsList(items);
+        Scene scene = new Scene(listView, 900, 700);
+        scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
+        stage.setTitle("Scroll benchmark: " + list);
+        stage.setScene(scene);
+        stage.show();
+
+        System.out.println("Scrolling " + items + " " + list + " items at " + pixelsPerFrame
+                + " px/frame for " + measureNanos / 1_000_000_000 + " s (after " + WARM_UP_NANOS / 1_000_000_000 + " s warm-up)");
+        new AnimationTimer() {
+            private long started = -1;
+            private long measureStarted = -1;
+            private long lastFrame;
+            private long frames;
+            private long dropped;
+            private long worstFrame;
+            private long allocatedAtStart;
+            private long gcCountAtStart;
+
+            @Override
+            public void handle(long now) {
+                if (started < 0) {
+                    started = now;
+                } else if (measureStarted < 0 && now - started >= WARM_UP_NANOS) {
+                    measureStarted = now;
+                    allocatedAtStart = currentThreadAllocatedBytes();
+                    gcCountAtStart = gcCount();
+                } else if (measureStarted >= 0) {
+                    long interval = now - lastFrame;
+                    frames++;
+                    worstFrame = Math.max(worstFrame, interval);
+                    // A pulse that arrives n frame slots after the previous one means n - 1 frames were never shown
+                    dropped += Math.max(0, Math.round(interval / FRAME_NANOS) - 1);
+                    if (now - measureStarted >= measureNanos) {
+                        stop();
+                        report(now - measureStarted);
+                        Platform.exit();
+                        return;
+                    }
+                }
+                lastFrame = now;
+                scroll(listView, pixelsPerFrame);
+            }
+
+            private void report(long elapsedNanos) {
+                double seconds = elapsedNanos / 1e9;
+                double allocatedMb = (currentThreadAllocatedBytes() - allocatedAtStart) / (1024.0 * 1024.0);
+                long expectedFrames = Math.round(elapsedNanos / FRAME_NANOS);
+                System.out.println(String.format("Frames: %d shown, %d dropped of %d expected at 60 Hz (%.1f%%)",
+                        frames, dropped, expectedFrames, 100.0 * dropped / Math.max(1, expectedFrames)));
+                System.out.println(String.format("Frame time: avg %.2f ms, worst %.2f ms",
+                        elapsedNanos / 1e6 / Math.max(1, frames), worstFrame / 1e6));
+                System.out.println(String.format("FX thread allocation: %.1f MB total, %.1f MB/s; %d GCs",
+                        allocatedMb, allocatedMb / seconds, gcCount() - gcCountAtStart));
+            }
+        }.start();
+    }
+
+    /**
+     * Scroll down by the given amount, wrapping to the top at the end of the list
+     */
+    private static void scroll(ListView<?> listView, int pixels) {
+        VirtualFlow<?> flow = (VirtualFlow<?>) listView.lookup(".virtual-flow");
+        if (flow != null && flow.scrollPixels(pixels) == 0) {
+            flow.scrollTo(0);
+        }
+    }
+
+    private static ListView<NewsArticle> newsList(int count) {
+        ListView<NewsArticle> listView = new ListView<>();
+        listView.setCellFactory(list -> new NewsArticleCell());
+        for (int i = 0; i < count; i++) {
+            NewsArticle article = new NewsArticle();
+            article.setTitle("Article " + i + ": commodity markets react to new trade measures");
+            article.setSummary("Summary of article " + i + ". Analysts expect prices to move as the measures take effect "
+                    + "over the coming quarter, with knock-on effects for importers.");
+            article.setSource(i % 2 == 0 ? "Reuters" : "Bloomberg");
+            article.setPublishedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusHours(i));
+            article.setCountryCode(i % 3 == 0 ? "US" : "DE");
+            article.setRelevanceScore(i % 4 == 0 ? null : (i % 100) / 100.0);
+            if (i % 5 == 0) {
+                // Some rows come from local search, with highlighted matches
+                article.setSearchSnippet("... prices of " + LocalSearchIndex.HIGHLIGHT_START + "oil"
+                        + LocalSearchIndex.HIGHLIGHT_END + " and " + LocalSearchIndex.HIGHLIGHT_START + "gold"
+                        + LocalSearchIndex.HIGHLIGHT_END + " rose after the announcement ...");
+            }
+            listView.getItems().add(article);
+        }
+        return listView;
+    }
+
+    private static ListView<Object> updatesList(int count) {
+        ListView<Object> listView = new ListView<>();
+        listView.setCellFactory(list -> new UpdateCell());
+        List<Object> updates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            switch (i % 4) {
+                case 0 -> {
+                    Legislation leg = new Legislation();
+                    leg.setRefCode("HR-" + i);
+                    leg.setTitle("Act " + i + " on strategic commodity reserves");
+                    leg.setSummary("Establishes reporting requirements for reserves of critical commodities.");
+                    leg.setDateIntroduced(LocalDate.of(2024, 1, 1).plusDays(i));
+                    leg.setCurrentStatus("In committee");
+                    updates.add(leg);
+                }
+                case 1 -> {
+                    CommitteeMaterial hearing = new CommitteeMaterial();
+                    hearing.setTitle("Hearing " + i + " on supply chain resilience");
+                    hearing.setOfficialSummary("Testimony from industry representatives on sourcing.");
+                    hearing.setEventDate(i % 8 == 1 ? null : LocalDate.of(2024, 3, 1).plusDays(i));
+                    updates.add(hearing);
+                }
+                case 2 -> {
+                    Nomination nom = new Nomination();
+                    nom.setPositionTitle("Deputy Secretary " + i);
+                    nom.setTargetOrganization("Department of Commerce");
+                    nom.setOfficialSummary("Nomination received and referred to committee.");
+                    nom.setCurrentStatus("Pending");
+                    updates.add(nom);
+                }
+                default -> {
+                    Treaty treaty = new Treaty();
+                    treaty.setTitle("Trade agreement " + i);
+                    treaty.setForeignPartner("Canada");
+                    treaty.setOfficialSummary("Reduces tariffs on agricultural goods.");
+                    treaty.setCurrentStatus("Signed");
+                    updates.add(treaty);
+                }
+            }
+        }
+        listView.getItems().setAll(updates);
+        return listView;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,143 @@
+package com.orwel.bench;
+
+import com.orwel.config.DatabaseConfig;
+import com.orwel.model.User;
+import com.orwel.service.UserDatabase;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Times saving a large commodity-tag profile with {@link UserDatabase#saveCommodityTags} against the
+ * previous delete-all-and-reinsert implementation, kept here as the baseline
+ * Run with {@code mvn -Ptag-save-bench compile exec:exec}; the database is created under
+ * target/bench-home, never in the real ~/.orwel. Options: {@code -Dorwel.bench.tags}
+ * (default {@value #DEFAULT_TAGS}) and {@code -Dorwel.bench.iterations} (default {@value #DEFAULT_ITERATIONS})
+ */
+public class TagSaveBenchmark {
+    private static final int DEFAULT_TAGS = 1000;
+    private static final int DEFAULT_ITERATIONS = 20;
+    private static final int WARM_UP_ITERATIONS = 3;
+    private static final String EMAIL = "tag-bench@orwel.local";
+
+    @FunctionalInterface
+    private interface TagSave {
+        void save(List<String> tags) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws SQLException;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        int tagCount = Integer.getInteger("orwel.bench.tags", DEFAULT_TAGS);
+        int iterations = Integer.getInteger("orwel.bench.iterations", DEFAULT_ITERATIONS);
+
+        System.out.println("Database: " + DatabaseConfig.getDatabasePath());
+        UserDatabase.initializeDatabase();
+        if (!UserDatabase.userExists(EMAIL)) {
+            User user = new User();
+            user.setUsername("tag-bench");
+            user.setEmail(EMAIL);
+            user.setPassword("tag-bench");
+            UserDatabase.saveUser(user);
+        }
+
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(String.format("tag-%04d", i));
+        }
+        List<String> changed = new ArrayList<>(tags);
+        changed.set(0, "tag-changed");
+
+        TagSave before = tagList -> replaceAllTags(EMAIL, tagList);
+        TagSave after = tagList -> UserDatabase.saveCommodityTags(EMAIL, tagList);
+
+        double[][] results = new double[3][2];
+        TagSave[] implementations = { before, after };
+        for (int impl = 0; impl < implementations.length; impl++) {
+            TagSave save = implementations[impl];
+            results[0][impl] = median(iterations, () -> clearTags(EMAIL), () -> save.save(tags));
+            save.save(tags);
+            results[1][impl] = median(iterations, () -> { }, () -> save.save(tags));
+            boolean[] flip = { false };
+            results[2][impl] = median(iterations, () -> flip[0] = !flip[0],
+                    () -> save.save(flip[0] ? changed : tags));
+        }
+
+        System.out.println();
+        System.out.println("Saving a " + tagCount + "-tag profile, median of " + iterations + " runs:");
+        System.out.println(String.format("  %-24s %10s %10s", "", "before", "after"));
+        String[] scenarios = { "first save (all new)", "re-save unchanged", "one tag changed" };
+        for (int i = 0; i < scenarios.length; i++) {
+            System.out.println(String.format("  %-24s %7.1f ms %7.1f ms", scenarios[i], results[i][0], results[i][1]));
+        }
+        DatabaseConfig.closeConnection();
+    }
+
+    /**
+     * Median time of the measured step in milliseconds; setup runs untimed before each repetition
+     */
+    private static double median(int iterations, Step setup, Step measured) throws SQLException {
+        double[] timings = new double[iterations];
+        for (int i = -WARM_UP_ITERATIONS; i < iterations; i++) {
+            setup.run();
+            long started = System.nanoTime();
+            measured.run();
+            if (i >= 0) {
+                timings[i] = (System.nanoTime() - started) / 1e6;
+            }
+        }
+        Arrays.sort(timings);
+        return timings[iterations / 2];
+    }
+
+    private static void clearTags(String email) throws SQLException {
+        DatabaseConfig.write(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "DELETE FROM commodity_tags WHERE user_id = (SELECT id FROM users WHERE email = ?)")) {
+                pstmt.setString(1, email);
+                return pstmt.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * The implementation saveCommodityTags replaced: look up the user, delete every tag and insert
+     * the list again, one autocommitted statement per tag
+     */
+    private static void replaceAllTags(String email, List<String> tags) throws SQLException {
+        DatabaseConfig.write(conn -> {
+            long userId;
+            try (PreparedStatement pstmt = conn.prepareStatement("SELECT id FROM users WHERE email = ?")) {
+                pstmt.setString(1, email);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new SQLException("User not found: " + email);
+                    }
+                    userId = rs.getLong(1);
+                }
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement("DELETE FROM commodity_tags WHERE user_id = ?")) {
+                pstmt.setLong(1, userId);
+                pstmt.executeUpdate();
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO commodity_tags (user_id, tag_name) VALUES (?, ?)")) {
+                for (String tag : tags) {
+                    if (tag != null && !tag.trim().isEmpty()) {
+                        pstmt.setLong(1, userId);
+                        pstmt.setString(2, tag.trim());
+                        pstmt.executeUpdate();
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
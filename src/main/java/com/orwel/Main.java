@@ -1,23 +1,37 @@
 package com.orwel;
 
 import com.orwel.config.AppConfig;
+import com.orwel.service.ApiService;
+import com.orwel.service.HttpClientFactory;
+import com.orwel.service.ReplicaSync;
+import com.orwel.service.SupabaseClient;
+import com.orwel.util.AppBootstrap;
+import com.orwel.util.NavigationHelper;
+import com.orwel.util.StartupTimeline;
+import com.orwel.util.TaskScheduler;
+import com.orwel.util.TrainingRun;
 
 import javafx.application.Application;
-import javafx.fxml.FXMLLoader;
+import javafx.application.Platform;
+import javafx.geometry.Pos;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+
 public class Main extends Application {
     
     @Override
     public void start(Stage primaryStage) throws Exception {
-        // Load configuration
-        AppConfig.loadConfig();
+        StartupTimeline.mark("fx.start");
+        StartupTimeline.Span splashSpan = StartupTimeline.begin("splash");
         
-        // Load landing page as entry point
-        Parent root = FXMLLoader.load(getClass().getResource("/fxml/Landing.fxml"));
-        Scene scene = new Scene(root);
+        // Show a splash right away; config, database and clients are set up in the background
+        Scene scene = new Scene(createSplash());
         
         // Apply CSS
         scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
@@ -31,18 +45,119 @@ public class Main extends Application {
         primaryStage.setFullScreen(true);
         primaryStage.setFullScreenExitHint("");
         
-        // Add fade in animation
-        primaryStage.setOpacity(0);
         primaryStage.show();
+        splashSpan.close();
+        
+        AppBootstrap.run().thenRun(() -> Platform.runLater(() -> showLanding(primaryStage)));
+    }
+    
+    /**
+     * Lightweight placeholder built in code, so it needs no FXML, config or database
+     */
+    private Parent createSplash() {
+        Label title = new Label("ORWEL");
+        title.getStyleClass().add("title-large");
+        ProgressIndicator progress = new ProgressIndicator();
+        progress.setMaxSize(48, 48);
+        
+        VBox splash = new VBox(24, title, progress);
+        splash.setAlignment(Pos.CENTER);
+        splash.getStyleClass().add("midnight-base");
+        return splash;
+    }
+    
+    /**
+     * Replace the splash with the landing page once startup work is done
+     */
+    private void showLanding(Stage primaryStage) {
+        // Mirror Supabase tables locally in the background so tagged lists work offline
+        ReplicaSync.start();
+        
+        // Load landing page as entry point
+        Scene scene = primaryStage.getScene();
+        StartupTimeline.Span fxmlSpan = StartupTimeline.begin("landing.fxml");
+        try {
+            NavigationHelper.show(scene, "/fxml/Landing.fxml");
+        } catch (IOException e) {
+            System.err.println("Failed to load landing page: " + e.getMessage());
+            e.printStackTrace();
+            Platform.exit();
+            return;
+        } finally {
+            fxmlSpan.close();
+        }
+        
+        // Add fade in animation
+        Parent root = scene.getRoot();
+        root.setOpacity(0);
+        StartupTimeline.Span layoutSpan = StartupTimeline.begin("landing.css+layout");
         
+        // The first pulse after the swap applies CSS and lays out the landing page. Post-layout listeners
+        // run before the pulse renders, so interactive is marked at the start of the pulse after the first
+        // one that drew the page with some opacity (the fade below starts from 0)
+        Runnable markRendered = new Runnable() {
+            @Override
+            public void run() {
+                scene.removePreLayoutPulseListener(this);
+                StartupTimeline.mark(StartupTimeline.INTERACTIVE);
+            }
+        };
+        Runnable firstVisiblePulse = new Runnable() {
+            @Override
+            public void run() {
+                layoutSpan.close();
+                if (root.getOpacity() > 0) {
+                    scene.removePostLayoutPulseListener(this);
+                    scene.addPreLayoutPulseListener(markRendered);
+                    Platform.requestNextPulse();
+                }
+            }
+        };
+        scene.addPostLayoutPulseListener(firstVisiblePulse);
+        
+        StartupTimeline.Span fadeSpan = StartupTimeline.begin("landing.fade");
         javafx.animation.FadeTransition fadeIn = new javafx.animation.FadeTransition(javafx.util.Duration.millis(500), root);
         fadeIn.setFromValue(0);
         fadeIn.setToValue(1);
-        fadeIn.setOnFinished(e -> primaryStage.setOpacity(1));
+        fadeIn.setOnFinished(e -> {
+            fadeSpan.close();
+            reportStartup();
+            if (TrainingRun.isEnabled()) {
+                TrainingRun.start(primaryStage);
+            }
+        });
         fadeIn.play();
     }
+    
+    /**
+     * Print the startup timeline; in CI mode, quit with a status reflecting the time-to-interactive check
+     */
+    private void reportStartup() {
+        StartupTimeline.dump();
+        if (StartupTimeline.isCheckMode()) {
+            boolean ok = StartupTimeline.checkTimeToInteractive();
+            Platform.exit();
+            System.exit(ok ? 0 : 1);
+        }
+    }
+
+    @Override
+    public void stop() {
+        // How much duplicate traffic request coalescing removed this session
+        System.out.println(ApiService.getInstance().getSingleFlight());
+        if (AppConfig.isSupabaseConfigured()) {
+            System.out.println(SupabaseClient.getInstance().getSingleFlight());
+        }
+        
+        ReplicaSync.stop();
+        // Release pooled HTTP connections and dispatcher threads
+        HttpClientFactory.shutdown();
+        // Stop background tasks started from the UI
+        TaskScheduler.shutdown();
+    }
 
     public static void main(String[] args) {
+        StartupTimeline.mark("main");
         launch(args);
     }
 }
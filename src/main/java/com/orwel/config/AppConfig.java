@@ -1,5 +1,6 @@
 package com.orwel.config;
 
+import com.orwel.util.StartupTimeline;
 import io.github.cdimascio.dotenv.Dotenv;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -13,7 +14,12 @@ public class AppConfig {
     
     // Load environment variables from .env file
     static {
-        dotenv = loadDotenv();
+        StartupTimeline.Span span = StartupTimeline.begin("config.dotenv");
+        try {
+            dotenv = loadDotenv();
+        } finally {
+            span.close();
+        }
     }
     
     private static Dotenv loadDotenv() {
@@ -79,6 +85,10 @@ public class AppConfig {
     // News API Configuration
     public static String NEWS_API_KEY = getEnvOrDefault("NEWS_API_KEY", "");
     
+    // Search Configuration
+    public static int SEARCH_DEBOUNCE_MS = 250; // Pause in typing before a search is sent
+    public static int SEARCH_MIN_QUERY_LENGTH = 2; // Shorter queries don't search as you type
+    
     /**
      * Get environment variable from .env file or system env, with fallback to default
      */
@@ -119,6 +129,8 @@ public class AppConfig {
             LOCATION_API_PROVIDER = properties.getProperty("location.api.provider", LOCATION_API_PROVIDER);
             NEWS_API_KEY = getEnvOrDefault("NEWS_API_KEY", 
                     properties.getProperty("news.api.key", NEWS_API_KEY));
+            SEARCH_DEBOUNCE_MS = getIntProperty("search.debounce.ms", SEARCH_DEBOUNCE_MS);
+            SEARCH_MIN_QUERY_LENGTH = getIntProperty("search.min.query.length", SEARCH_MIN_QUERY_LENGTH);
         } catch (IOException e) {
             // Config file doesn't exist, use defaults
             System.out.println("Config file not found, using default configuration");
@@ -138,6 +150,8 @@ public class AppConfig {
             properties.setProperty("location.api.key", LOCATION_API_KEY);
             properties.setProperty("location.api.provider", LOCATION_API_PROVIDER);
             properties.setProperty("news.api.key", NEWS_API_KEY);
+            properties.setProperty("search.debounce.ms", String.valueOf(SEARCH_DEBOUNCE_MS));
+            properties.setProperty("search.min.query.length", String.valueOf(SEARCH_MIN_QUERY_LENGTH));
             properties.store(new FileOutputStream(CONFIG_FILE), 
                     "Orwel Application Configuration\n" +
                     "Note: Some values may be overridden by .env file");
@@ -146,6 +160,19 @@ public class AppConfig {
         }
     }
     
+    private static int getIntProperty(String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+    
     /**
      * Check if Supabase is configured
      */
@@ -1,62 +1,194 @@
 package com.orwel.config;
 
+import org.sqlite.SQLiteConfig;
+
 import java.io.File;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Manages SQLite database connections
- * Provides singleton connection and database initialization
+ * The database runs in WAL mode with one writer connection, used by one thread at a time,
+ * and a small pool of read-only connections. Readers see the last committed state and
+ * never wait behind a write; writers queue on a lock instead of failing with SQLITE_BUSY
  */
 public class DatabaseConfig {
     private static final String DB_DIR = System.getProperty("user.home") + File.separator + ".orwel";
     private static final String DB_FILE = DB_DIR + File.separator + "orwel.db";
     private static final String DB_URL = "jdbc:sqlite:" + DB_FILE;
-    private static Connection connection = null;
+
+    private static final int READ_POOL_SIZE = 3;
+    private static final long READ_WAIT_MS = 5000;
+    private static final int BUSY_TIMEOUT_MS = 5000;
+    private static final long MMAP_SIZE_BYTES = 64L * 1024 * 1024;
+    private static final int CACHE_SIZE_KIB = 8 * 1024;
+
+    private static final ReentrantLock writeLock = new ReentrantLock();
+    private static final BlockingQueue<Connection> idleReaders = new ArrayBlockingQueue<>(READ_POOL_SIZE);
+    private static final List<Connection> allReaders = new ArrayList<>();
+    private static Connection writer = null;
 
     /**
-     * Get database connection (singleton pattern)
-     * Creates database directory and file if they don't exist
+     * Work to run with a borrowed connection
+     */
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Run a query on a pooled read-only connection
+     * Called while holding the writer (inside {@link #write}), it uses the writer connection
+     * so the work sees the caller's uncommitted changes
+     */
+    public static <T> T read(SqlWork<T> work) throws SQLException {
+        if (writeLock.isHeldByCurrentThread()) {
+            return work.run(writer);
+        }
+        Connection conn = borrowReader();
+        try {
+            return work.run(conn);
+        } finally {
+            idleReaders.offer(conn);
+        }
+    }
+
+    /**
+     * Run statements on the writer connection, waiting for any other thread's write to finish
+     * Each statement commits on its own unless the work runs inside {@link #transaction}
      */
-    public static Connection getConnection() throws SQLException {
-        if (connection == null || connection.isClosed()) {
+    public static <T> T write(SqlWork<T> work) throws SQLException {
+        writeLock.lock();
+        try {
+            return work.run(getWriter());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Run statements on the writer connection as one transaction, rolled back if the work throws
+     * Nested calls join the enclosing transaction
+     */
+    public static <T> T transaction(SqlWork<T> work) throws SQLException {
+        return write(conn -> {
+            if (!conn.getAutoCommit()) {
+                return work.run(conn);
+            }
+            conn.setAutoCommit(false);
             try {
-                // Create directory if it doesn't exist
-                File dbDirectory = new File(DB_DIR);
-                if (!dbDirectory.exists()) {
-                    dbDirectory.mkdirs();
-                }
+                T result = work.run(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        });
+    }
 
-                // Load SQLite JDBC driver
-                Class.forName("org.sqlite.JDBC");
-                
-                // Create connection
-                connection = DriverManager.getConnection(DB_URL);
-                
-                // Enable foreign keys
-                connection.createStatement().execute("PRAGMA foreign_keys = ON");
-                
-                System.out.println("Connected to SQLite database at: " + DB_FILE);
-            } catch (ClassNotFoundException e) {
-                throw new SQLException("SQLite JDBC driver not found", e);
+    /**
+     * Open the writer connection on first use; it also switches the database file to WAL
+     * Creates database directory and file if they don't exist
+     */
+    private static synchronized Connection getWriter() throws SQLException {
+        if (writer == null || writer.isClosed()) {
+            getDataDirectory();
+            writer = open(false);
+            System.out.println("Connected to SQLite database at: " + DB_FILE);
+        }
+        return writer;
+    }
+
+    private static Connection borrowReader() throws SQLException {
+        Connection conn = idleReaders.poll();
+        if (conn != null && !conn.isClosed()) {
+            return conn;
+        }
+        synchronized (DatabaseConfig.class) {
+            if (allReaders.size() < READ_POOL_SIZE) {
+                // The writer creates the file and sets WAL mode before any reader opens it
+                getWriter();
+                Connection reader = open(true);
+                allReaders.add(reader);
+                return reader;
             }
         }
-        return connection;
+        try {
+            conn = idleReaders.poll(READ_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        if (conn == null || conn.isClosed()) {
+            throw new SQLException("No database connection available after " + READ_WAIT_MS + " ms");
+        }
+        return conn;
+    }
+
+    private static Connection open(boolean readOnly) throws SQLException {
+        SQLiteConfig config = new SQLiteConfig();
+        if (!readOnly) {
+            // Persistent in the file, so readers opened afterwards are in WAL mode too
+            config.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        }
+        config.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);  // Safe with WAL; fsync at checkpoints only
+        config.setBusyTimeout(BUSY_TIMEOUT_MS);
+        config.setCacheSize(-CACHE_SIZE_KIB);  // Negative = size in KiB rather than pages
+        config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(MMAP_SIZE_BYTES));
+        config.setTempStore(SQLiteConfig.TempStore.MEMORY);
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+        return config.createConnection(DB_URL);
     }
 
     /**
-     * Close database connection
+     * Close all database connections
      */
     public static void closeConnection() {
+        writeLock.lock();
         try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                System.out.println("Database connection closed");
+            synchronized (DatabaseConfig.class) {
+                try {
+                    for (Connection reader : allReaders) {
+                        reader.close();
+                    }
+                    allReaders.clear();
+                    idleReaders.clear();
+                    if (writer != null && !writer.isClosed()) {
+                        writer.close();
+                        System.out.println("Database connection closed");
+                    }
+                    writer = null;
+                } finally {
+                    // After the connections, so statements checked in meanwhile aren't cached again
+                    SqlRunner.closeStatements();
+                }
             }
         } catch (SQLException e) {
             System.err.println("Error closing database connection: " + e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Get the application data directory (~/.orwel), creating it if needed
+     */
+    public static File getDataDirectory() {
+        File dir = new File(DB_DIR);
+        if (!dir.exists()) {
+            dir.mkdirs();
         }
+        return dir;
     }
 
     /**
@@ -80,6 +212,9 @@ public class DatabaseConfig {
     public static boolean deleteDatabase() {
         try {
             closeConnection();
+            // WAL mode keeps the write-ahead log and shared-memory index next to the database
+            new File(DB_FILE + "-wal").delete();
+            new File(DB_FILE + "-shm").delete();
             File dbFile = new File(DB_FILE);
             return dbFile.delete();
         } catch (Exception e) {
@@ -0,0 +1,273 @@
+package com.orwel.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Typed query/update helpers over {@link DatabaseConfig}
+ * Prepared statements are cached per connection and reused across calls, result sets are
+ * always closed before a helper returns, and every statement is timed and reported to the
+ * current {@link QueryListener}
+ */
+public class SqlRunner {
+    private static final int STATEMENTS_PER_CONNECTION = 32;
+    private static final long SLOW_QUERY_MS = 50;
+
+    // Guards the outer map and every per-connection map: access-ordered maps change even on get/put,
+    // and closeStatements() may run on another thread while a connection is in use
+    private static final Map<Connection, Map<String, PreparedStatement>> statementCache = new HashMap<>();
+    private static volatile QueryListener listener = SqlRunner::logSlowQuery;
+
+    /**
+     * Maps the current row of a result set
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Timing hook called after each statement
+     */
+    @FunctionalInterface
+    public interface QueryListener {
+        /**
+         * @param rows Rows read for a query, rows changed for an update
+         */
+        void onQuery(String sql, long elapsedNanos, int rows);
+    }
+
+    /**
+     * Replace the timing hook (by default statements slower than {@value #SLOW_QUERY_MS} ms are logged)
+     */
+    public static void setQueryListener(QueryListener queryListener) {
+        listener = queryListener != null ? queryListener : (sql, elapsedNanos, rows) -> { };
+    }
+
+    /**
+     * First row of a query on a read connection, or null if there is none
+     */
+    public static <T> T queryOne(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        return DatabaseConfig.read(conn -> queryOne(conn, sql, mapper, params));
+    }
+
+    /**
+     * All rows of a query on a read connection
+     */
+    public static <T> List<T> queryList(String sql, RowMapper<T> mapper, Object... params) throws SQLException {
+        return DatabaseConfig.read(conn -> queryList(conn, sql, mapper, params));
+    }
+
+    /**
+     * Hand each row to the action as it is read, without collecting the rows
+     * The action runs while a read connection is held
+     */
+    public static <T> void queryEach(String sql, RowMapper<T> mapper, Consumer<T> action,
+                                     Object... params) throws SQLException {
+        DatabaseConfig.read(conn -> {
+            queryEach(conn, sql, mapper, action, params);
+            return null;
+        });
+    }
+
+    /**
+     * Run an INSERT/UPDATE/DELETE on the writer connection
+     * @return Number of rows changed
+     */
+    public static int update(String sql, Object... params) throws SQLException {
+        return DatabaseConfig.write(conn -> update(conn, sql, params));
+    }
+
+    public static <T> T queryOne(Connection conn, String sql, RowMapper<T> mapper,
+                                 Object... params) throws SQLException {
+        List<T> result = new ArrayList<>(1);
+        run(conn, sql, params, pstmt -> {
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    result.add(mapper.map(rs));
+                }
+            }
+            return result.size();
+        });
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    public static <T> List<T> queryList(Connection conn, String sql, RowMapper<T> mapper,
+                                        Object... params) throws SQLException {
+        List<T> result = new ArrayList<>();
+        queryEach(conn, sql, mapper, result::add, params);
+        return result;
+    }
+
+    public static <T> void queryEach(Connection conn, String sql, RowMapper<T> mapper, Consumer<T> action,
+                                     Object... params) throws SQLException {
+        run(conn, sql, params, pstmt -> {
+            int rows = 0;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    action.accept(mapper.map(rs));
+                    rows++;
+                }
+            }
+            return rows;
+        });
+    }
+
+    public static int update(Connection conn, String sql, Object... params) throws SQLException {
+        return run(conn, sql, params, PreparedStatement::executeUpdate);
+    }
+
+    /**
+     * Run one statement for each parameter row as a single JDBC batch
+     * @return Total number of rows changed
+     */
+    public static int batch(Connection conn, String sql, List<Object[]> paramRows) throws SQLException {
+        if (paramRows.isEmpty()) {
+            return 0;
+        }
+        return run(conn, sql, new Object[0], pstmt -> {
+            for (Object[] params : paramRows) {
+                bind(pstmt, params);
+                pstmt.addBatch();
+            }
+            int changed = 0;
+            for (int count : pstmt.executeBatch()) {
+                changed += Math.max(count, 0);
+            }
+            return changed;
+        });
+    }
+
+    /**
+     * Close every cached statement; called after the connections are closed, so a statement
+     * checked in late is dropped by {@link #checkIn} rather than cached for a dead connection
+     * Checked-out statements aren't in the cache and are never closed under their user
+     */
+    static void closeStatements() {
+        synchronized (statementCache) {
+            for (Map<String, PreparedStatement> statements : statementCache.values()) {
+                for (PreparedStatement pstmt : statements.values()) {
+                    closeQuietly(pstmt);
+                }
+            }
+            statementCache.clear();
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementWork {
+        int run(PreparedStatement pstmt) throws SQLException;
+    }
+
+    private static int run(Connection conn, String sql, Object[] params, StatementWork work) throws SQLException {
+        long started = System.nanoTime();
+        PreparedStatement pstmt = checkOut(conn, sql);
+        boolean reusable = false;
+        int rows;
+        try {
+            bind(pstmt, params);
+            rows = work.run(pstmt);
+            pstmt.clearParameters();
+            reusable = true;
+        } finally {
+            checkIn(conn, sql, pstmt, reusable);
+        }
+        listener.onQuery(sql, System.nanoTime() - started, rows);
+        return rows;
+    }
+
+    private static void bind(PreparedStatement pstmt, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            Object value = params[i];
+            if (value instanceof Boolean flag) {
+                pstmt.setInt(i + 1, flag ? 1 : 0);  // Stored as INTEGER 0/1
+            } else {
+                pstmt.setObject(i + 1, value);
+            }
+        }
+    }
+
+    /**
+     * Take the cached statement for this SQL out of the connection's cache, or prepare one
+     * While checked out it isn't in the cache, so a nested call with the same SQL
+     * (e.g. from a queryEach action) prepares its own instead of clobbering an open result set
+     */
+    private static PreparedStatement checkOut(Connection conn, String sql) throws SQLException {
+        PreparedStatement pstmt;
+        synchronized (statementCache) {
+            pstmt = statementsFor(conn).remove(sql);
+        }
+        if (pstmt != null && !pstmt.isClosed()) {
+            return pstmt;
+        }
+        return conn.prepareStatement(sql);
+    }
+
+    private static void checkIn(Connection conn, String sql, PreparedStatement pstmt, boolean reusable) {
+        if (!reusable) {
+            closeQuietly(pstmt);
+            return;
+        }
+        PreparedStatement discarded;
+        synchronized (statementCache) {
+            if (isClosed(conn)) {
+                // The connection was closed while the statement was checked out
+                discarded = pstmt;
+            } else {
+                PreparedStatement previous = statementsFor(conn).put(sql, pstmt);
+                discarded = previous != pstmt ? previous : null;
+            }
+        }
+        if (discarded != null) {
+            closeQuietly(discarded);
+        }
+    }
+
+    /**
+     * The connection's statement map; callers hold the statementCache lock
+     */
+    private static Map<String, PreparedStatement> statementsFor(Connection conn) {
+        return statementCache.computeIfAbsent(conn, c -> new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > STATEMENTS_PER_CONNECTION) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    private static boolean isClosed(Connection conn) {
+        try {
+            return conn.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement pstmt) {
+        try {
+            pstmt.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing statement: " + e.getMessage());
+        }
+    }
+
+    private static void logSlowQuery(String sql, long elapsedNanos, int rows) {
+        long elapsedMs = elapsedNanos / 1_000_000;
+        if (elapsedMs >= SLOW_QUERY_MS) {
+            System.out.println("Slow query (" + elapsedMs + " ms, " + rows + " rows): "
+                    + sql.replaceAll("\\s+", " ").trim());
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.orwel.controller;
 
-import com.orwel.service.ApiService;
 import com.orwel.util.NavigationHelper;
+import com.orwel.util.ViewLifecycle;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 
-public class AboutController {
-    private ApiService apiService = ApiService.getInstance();
+public class AboutController implements ViewLifecycle {
+    @Override
+    public void onShow() {
+        // Static page, nothing to load
+    }
     
     // Navigation methods
     @FXML private void navigateToDashboard(ActionEvent event) { 
@@ -24,7 +27,6 @@ public class AboutController {
     }
     @FXML private void navigateToAbout(ActionEvent event) { /* Already on about */ }
     @FXML private void handleLogout(ActionEvent event) {
-        apiService.logout();
-        NavigationHelper.navigate((Node) event.getSource(), "/fxml/Login.fxml");
+        NavigationHelper.logout((Node) event.getSource());
     }
 }
@@ -1,15 +1,16 @@
 package com.orwel.controller;
 
-import java.io.IOException;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 import com.orwel.model.Country;
 import com.orwel.service.ApiService;
+import com.orwel.util.LoadScope;
 import com.orwel.util.NavigationHelper;
+import com.orwel.util.ViewLifecycle;
 
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -19,17 +20,24 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.VBox;
 
-public class CountriesController {
+public class CountriesController implements ViewLifecycle {
     @FXML private FlowPane countriesFlowPane;
     @FXML private TextField searchField;
     @FXML private ComboBox<String> regionFilterComboBox;
     
     private ApiService apiService = ApiService.getInstance();
+    private final LoadScope loads = new LoadScope();
     private List<Country> allCountries;
+    private List<String> searchKeys; // Lowercased name and code of each country in allCountries, built once per load
     
     @FXML
     public void initialize() {
         setupRegionFilter();
+    }
+    
+    @Override
+    public void onShow() {
+        loads.reopen();
         loadCountries();
     }
     
@@ -43,18 +51,25 @@ public class CountriesController {
     }
     
     private void loadCountries() {
-        new Thread(() -> {
-            try {
-                allCountries = apiService.getAllCountries();
-                Platform.runLater(() -> {
-                    displayCountries(allCountries);
-                });
-            } catch (IOException e) {
-                Platform.runLater(() -> {
-                    showError("Failed to load countries: " + e.getMessage());
-                });
-            }
-        }).start();
+        loads.run("countries",
+            // Served from cache when revisiting; a changed list is redrawn once revalidated
+            () -> apiService.getAllCountries(loads.onFx(fresh -> {
+                setCountries(fresh);
+                displayCountries(fresh);
+            })),
+            countries -> {
+                setCountries(countries);
+                displayCountries(allCountries);
+            },
+            e -> showError("Failed to load countries: " + e.getMessage()));
+    }
+    
+    private void setCountries(List<Country> countries) {
+        allCountries = countries != null ? countries : List.of();
+        searchKeys = new ArrayList<>(allCountries.size());
+        for (Country country : allCountries) {
+            searchKeys.add((country.getName() + "\n" + country.getCode()).toLowerCase(Locale.ROOT));
+        }
     }
     
     private void displayCountries(List<Country> countries) {
@@ -94,16 +109,21 @@ public class CountriesController {
     
     @FXML
     private void handleSearch() {
-        String query = searchField.getText().trim().toLowerCase();
+        if (allCountries == null) {
+            return;
+        }
+        String query = searchField.getText().trim().toLowerCase(Locale.ROOT);
         if (query.isEmpty()) {
             displayCountries(allCountries);
             return;
         }
         
-        List<Country> filtered = allCountries.stream()
-            .filter(c -> c.getName().toLowerCase().contains(query) || 
-                        c.getCode().toLowerCase().contains(query))
-            .collect(Collectors.toList());
+        List<Country> filtered = new ArrayList<>();
+        for (int i = 0; i < allCountries.size(); i++) {
+            if (searchKeys.get(i).contains(query)) {
+                filtered.add(allCountries.get(i));
+            }
+        }
         
         displayCountries(filtered);
     }
@@ -115,18 +135,11 @@ public class CountriesController {
     }
     
     private void navigateToCountryDetail(String countryCode) {
-        try {
-            javafx.fxml.FXMLLoader loader = new javafx.fxml.FXMLLoader(getClass().getResource("/fxml/CountryDetail.fxml"));
-            javafx.scene.Parent root = loader.load();
-            CountryDetailController controller = loader.getController();
+        CountryDetailController controller = NavigationHelper.navigate(countriesFlowPane, "/fxml/CountryDetail.fxml");
+        if (controller != null) {
             controller.loadCountry(countryCode);
-            javafx.stage.Stage stage = (javafx.stage.Stage) countriesFlowPane.getScene().getWindow();
-            javafx.scene.Scene scene = new javafx.scene.Scene(root);
-            scene.getStylesheets().add(getClass().getResource("/styles.css").toExternalForm());
-            stage.setScene(scene);
-        } catch (IOException e) {
-            e.printStackTrace();
-            showError("Failed to load country details: " + e.getMessage());
+        } else {
+            showError("Failed to load country details for " + countryCode);
         }
     }
     
@@ -142,7 +155,6 @@ public class CountriesController {
     @FXML private void navigateToProfile(javafx.event.ActionEvent event) { NavigationHelper.navigate((javafx.scene.Node) event.getSource(), "/fxml/Profile.fxml"); }
     @FXML private void navigateToAbout(javafx.event.ActionEvent event) { NavigationHelper.navigate((javafx.scene.Node) event.getSource(), "/fxml/About.fxml"); }
     @FXML private void handleLogout(javafx.event.ActionEvent event) {
-        apiService.logout();
-        NavigationHelper.navigate((javafx.scene.Node) event.getSource(), "/fxml/Login.fxml");
+        NavigationHelper.logout((javafx.scene.Node) event.getSource());
     }
 }
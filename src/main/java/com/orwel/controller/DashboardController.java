@@ -3,20 +3,25 @@ package com.orwel.controller;
 import com.orwel.model.*;
 import com.orwel.service.ApiService;
 import com.orwel.util.AnimationUtils;
+import com.orwel.util.DashboardLoader;
+import com.orwel.util.LoadScope;
 import com.orwel.util.NavigationHelper;
-import javafx.application.Platform;
+import com.orwel.util.ViewLifecycle;
+import com.orwel.view.Formats;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 import javafx.util.Callback;
 
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
-public class DashboardController {
+public class DashboardController implements ViewLifecycle {
     @FXML private Label welcomeLabel;
     @FXML private Label welcomeDescriptionLabel;
     @FXML private Label legislationCountLabel;
@@ -38,7 +43,12 @@ public class DashboardController {
     @FXML private ListView<Nomination> nominationsListView;
     @FXML private ListView<Committee> committeesListView;
     
+    private static final int PREVIEW_ROWS = 5;
+    
     private ApiService apiService = ApiService.getInstance();
+    private final LoadScope loads = new LoadScope();
+    // Count labels showing a server-side total, which list sizes must not overwrite
+    private final Set<Label> totalsShown = new HashSet<>();
     
     @FXML
     public void initialize() {
@@ -54,38 +64,50 @@ public class DashboardController {
         if (committeesCountLabel != null) committeesCountLabel.setText("0");
         
         setupListViews();
+        addHoverEffects();
+    }
+    
+    @Override
+    public void onShow() {
+        loads.reopen();
+        totalsShown.clear();
+        playEntranceAnimation();
         loadDashboardData();
-        addAnimations();
     }
     
-    private void addAnimations() {
-        Platform.runLater(() -> {
-            // Build list of non-null cards for animation
-            List<javafx.scene.Node> cardsToAnimate = new ArrayList<>();
-            if (welcomeCard != null) cardsToAnimate.add(welcomeCard);
-            if (legislationCard != null) cardsToAnimate.add(legislationCard);
-            if (hearingsCard != null) cardsToAnimate.add(hearingsCard);
-            if (nominationsCard != null) cardsToAnimate.add(nominationsCard);
-            if (committeesCard != null) cardsToAnimate.add(committeesCard);
-            if (legislationCardSection != null) cardsToAnimate.add(legislationCardSection);
-            if (hearingsCardSection != null) cardsToAnimate.add(hearingsCardSection);
-            if (nominationsCardSection != null) cardsToAnimate.add(nominationsCardSection);
-            if (committeesCardSection != null) cardsToAnimate.add(committeesCardSection);
-            
-            // Staggered entrance animations for all cards
-            if (!cardsToAnimate.isEmpty()) {
-                AnimationUtils.staggerFadeInSlideUp(cardsToAnimate, 100);
-            }
-            
-            // Add hover effects to stat cards (if they exist)
-            if (legislationCard != null) AnimationUtils.addHoverScaleEffect(legislationCard);
-            if (hearingsCard != null) AnimationUtils.addHoverScaleEffect(hearingsCard);
-            if (nominationsCard != null) AnimationUtils.addHoverScaleEffect(nominationsCard);
-            if (committeesCard != null) AnimationUtils.addHoverScaleEffect(committeesCard);
-            
-            // Add neon glow to label
-            if (welcomeLabel != null) AnimationUtils.addNeonGlowEffect(welcomeLabel);
-        });
+    /**
+     * Install hover handlers and effects; only configures nodes, so it is safe while the view is preloaded
+     */
+    private void addHoverEffects() {
+        // Add hover effects to stat cards (if they exist)
+        if (legislationCard != null) AnimationUtils.addHoverScaleEffect(legislationCard);
+        if (hearingsCard != null) AnimationUtils.addHoverScaleEffect(hearingsCard);
+        if (nominationsCard != null) AnimationUtils.addHoverScaleEffect(nominationsCard);
+        if (committeesCard != null) AnimationUtils.addHoverScaleEffect(committeesCard);
+        
+        // Add neon glow to label
+        if (welcomeLabel != null) AnimationUtils.addNeonGlowEffect(welcomeLabel);
+    }
+    
+    /**
+     * Staggered entrance of the cards, played each time the dashboard is shown
+     */
+    private void playEntranceAnimation() {
+        // Build list of non-null cards for animation
+        List<javafx.scene.Node> cardsToAnimate = new ArrayList<>();
+        if (welcomeCard != null) cardsToAnimate.add(welcomeCard);
+        if (legislationCard != null) cardsToAnimate.add(legislationCard);
+        if (hearingsCard != null) cardsToAnimate.add(hearingsCard);
+        if (nominationsCard != null) cardsToAnimate.add(nominationsCard);
+        if (committeesCard != null) cardsToAnimate.add(committeesCard);
+        if (legislationCardSection != null) cardsToAnimate.add(legislationCardSection);
+        if (hearingsCardSection != null) cardsToAnimate.add(hearingsCardSection);
+        if (nominationsCardSection != null) cardsToAnimate.add(nominationsCardSection);
+        if (committeesCardSection != null) cardsToAnimate.add(committeesCardSection);
+        
+        if (!cardsToAnimate.isEmpty()) {
+            AnimationUtils.staggerFadeInSlideUp(cardsToAnimate, 100);
+        }
     }
     
     private void setupListViews() {
@@ -114,7 +136,7 @@ public class DashboardController {
                         setText(null);
                     } else {
                         String date = hearing.getEventDate() != null ? 
-                            hearing.getEventDate().format(DateTimeFormatter.ofPattern("MMM dd, yyyy")) : "";
+                            Formats.DATE.format(hearing.getEventDate()) : "";
                         setText(hearing.getTitle() + (date.isEmpty() ? "" : "\nDate: " + date));
                     }
                 }
@@ -165,57 +187,30 @@ public class DashboardController {
             
             // Load data based on user tags (only if we have tags)
             if (user.getCommodityTags() != null && !user.getCommodityTags().isEmpty()) {
-                // Load all data in a single background thread to reduce overhead
-                new Thread(() -> {
-                    try {
-                        // Try to load legislation
-                        try {
-                            List<Legislation> legislation = apiService.getLegislationByTags(user.getCommodityTags());
-                            if (legislation != null && !legislation.isEmpty()) {
-                                Platform.runLater(() -> {
-                                    if (legislationCountLabel != null) legislationCountLabel.setText(String.valueOf(legislation.size()));
-                                    if (legislationListView != null) legislationListView.getItems().setAll(legislation.subList(0, Math.min(5, legislation.size())));
-                                });
-                            }
-                        } catch (Exception e) { /* Offline - already set to 0 */ }
-                        
-                        // Try to load hearings
-                        try {
-                            List<CommitteeMaterial> hearings = apiService.getHearingsByTags(user.getCommodityTags());
-                            if (hearings != null && !hearings.isEmpty()) {
-                                Platform.runLater(() -> {
-                                    if (hearingsCountLabel != null) hearingsCountLabel.setText(String.valueOf(hearings.size()));
-                                    if (hearingsListView != null) hearingsListView.getItems().setAll(hearings.subList(0, Math.min(5, hearings.size())));
-                                });
-                            }
-                        } catch (Exception e) { /* Offline - already set to 0 */ }
-                        
-                        // Try to load nominations
-                        try {
-                            List<Nomination> nominations = apiService.getNominationsByTags(user.getCommodityTags());
-                            if (nominations != null && !nominations.isEmpty()) {
-                                Platform.runLater(() -> {
-                                    if (nominationsCountLabel != null) nominationsCountLabel.setText(String.valueOf(nominations.size()));
-                                    if (nominationsListView != null) nominationsListView.getItems().setAll(nominations.subList(0, Math.min(5, nominations.size())));
-                                });
-                            }
-                        } catch (Exception e) { /* Offline - already set to 0 */ }
-                        
-                        // Try to load committees
-                        try {
-                            List<Committee> committees = apiService.getCommitteesByTags(user.getCommodityTags());
-                            if (committees != null && !committees.isEmpty()) {
-                                Platform.runLater(() -> {
-                                    if (committeesCountLabel != null) committeesCountLabel.setText(String.valueOf(committees.size()));
-                                    if (committeesListView != null) committeesListView.getItems().setAll(committees.subList(0, Math.min(5, committees.size())));
-                                });
-                            }
-                        } catch (Exception e) { /* Offline - already set to 0 */ }
-                        
-                    } catch (Exception e) {
-                        System.err.println("Error loading dashboard data: " + e.getMessage());
-                    }
-                }).start();
+                // One batched request when the server supports it; otherwise load all
+                // sections concurrently and fill each card as soon as its data lands
+                List<String> tags = user.getCommodityTags();
+                new DashboardLoader()
+                    .cancelWith(loads.begin("dashboard"))
+                    .section("stats", () -> apiService.getDashboardStats(tags, onFx(this::showStats)), this::showStats)
+                    .section("legislation", () -> apiService.getLegislationByTags(tags, PREVIEW_ROWS, onFx(this::showLegislation)), legislation -> {
+                        showLegislation(legislation);
+                        showPreviewCount(legislationCountLabel, legislation.size());
+                    })
+                    .section("hearings", () -> apiService.getHearingsByTags(tags, PREVIEW_ROWS, onFx(this::showHearings)), hearings -> {
+                        showHearings(hearings);
+                        showPreviewCount(hearingsCountLabel, hearings.size());
+                    })
+                    .section("nominations", () -> apiService.getNominationsByTags(tags, PREVIEW_ROWS, onFx(this::showNominations)), nominations -> {
+                        showNominations(nominations);
+                        showPreviewCount(nominationsCountLabel, nominations.size());
+                    })
+                    .section("committees", () -> apiService.getCommitteesByTags(tags, onFx(this::showCommittees)), committees -> {
+                        showCommittees(committees);
+                        // Not capped, so the list size is the total
+                        showPreviewCount(committeesCountLabel, committees.size(), false);
+                    })
+                    .loadBatched(() -> apiService.getDashboardBundle(tags, onFx(this::showBundle)), this::showBundle);
             } else {
                 if (welcomeDescriptionLabel != null) {
                     welcomeDescriptionLabel.setText("Please add commodity tags in your profile to see relevant legislation");
@@ -228,6 +223,65 @@ public class DashboardController {
         }
     }
     
+    /**
+     * Wrap a UI update so cache revalidations (delivered on a background thread) run on the FX thread,
+     * and are dropped once the user has left the dashboard
+     */
+    private <T> Consumer<T> onFx(Consumer<T> update) {
+        return loads.onFx(update);
+    }
+    
+    private void showBundle(DashboardBundle bundle) {
+        if (bundle.getLegislation() != null) showLegislation(bundle.getLegislation());
+        if (bundle.getHearings() != null) showHearings(bundle.getHearings());
+        if (bundle.getNominations() != null) showNominations(bundle.getNominations());
+        if (bundle.getCommittees() != null) showCommittees(bundle.getCommittees());
+        showStats(bundle.getStats());
+    }
+    
+    private void showStats(DashboardStats stats) {
+        if (stats == null) return;
+        // Server-side totals; counts the server couldn't provide keep their list-size value
+        showTotal(legislationCountLabel, stats.getTotalLegislation());
+        showTotal(hearingsCountLabel, stats.getTotalHearings());
+        showTotal(nominationsCountLabel, stats.getTotalNominations());
+        showTotal(committeesCountLabel, stats.getTotalCommittees());
+    }
+    
+    private void showTotal(Label label, Integer total) {
+        if (label == null || total == null) return;
+        label.setText(String.valueOf(total));
+        totalsShown.add(label);
+    }
+    
+    private void showPreviewCount(Label label, int size) {
+        showPreviewCount(label, size, true);
+    }
+    
+    /**
+     * Show a list's size until (or unless) the server-side total arrives
+     * @param capped The list was limited to PREVIEW_ROWS, so a full list means "at least" that many
+     */
+    private void showPreviewCount(Label label, int size, boolean capped) {
+        if (label == null || totalsShown.contains(label)) return;
+        label.setText(capped && size >= PREVIEW_ROWS ? PREVIEW_ROWS + "+" : String.valueOf(size));
+    }
+    
+    private void showLegislation(List<Legislation> legislation) {
+        if (legislationListView != null) legislationListView.getItems().setAll(legislation.subList(0, Math.min(PREVIEW_ROWS, legislation.size())));
+    }
+    
+    private void showHearings(List<CommitteeMaterial> hearings) {
+        if (hearingsListView != null) hearingsListView.getItems().setAll(hearings.subList(0, Math.min(PREVIEW_ROWS, hearings.size())));
+    }
+    
+    private void showNominations(List<Nomination> nominations) {
+        if (nominationsListView != null) nominationsListView.getItems().setAll(nominations.subList(0, Math.min(PREVIEW_ROWS, nominations.size())));
+    }
+    
+    private void showCommittees(List<Committee> committees) {
+        if (committeesListView != null) committeesListView.getItems().setAll(committees.subList(0, Math.min(PREVIEW_ROWS, committees.size())));
+    }
     
     @FXML
     private void navigateToDashboard() {
@@ -261,7 +315,6 @@ public class DashboardController {
     
     @FXML
     private void handleLogout(javafx.event.ActionEvent event) {
-        apiService.logout();
-        NavigationHelper.navigate((javafx.scene.Node) event.getSource(), "/fxml/Login.fxml");
+        NavigationHelper.logout((javafx.scene.Node) event.getSource());
     }
 }
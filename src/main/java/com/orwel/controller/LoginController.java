@@ -2,6 +2,7 @@ package com.orwel.controller;
 
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.orwel.config.AppConfig;
 import com.orwel.model.AuthResponse;
@@ -11,8 +12,10 @@ import com.orwel.service.ApiService;
 import com.orwel.service.UserDatabase;
 import com.orwel.util.AnimationUtils;
 import com.orwel.util.NavigationHelper;
+import com.orwel.util.TaskScheduler;
 
 import javafx.animation.FadeTransition;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -163,89 +166,82 @@ public class LoginController {
         loginButton.setDisable(true);
         errorLabel.setVisible(false);
         
-        // Run login in background thread
-        new Thread(() -> {
+        // Backend login first; fall back to the local database when the backend is unreachable
+        AtomicBoolean offline = new AtomicBoolean(false);
+        TaskScheduler.runInBackground(() -> {
             try {
-                // Try backend login first
                 LoginRequest loginRequest = new LoginRequest(usernameOrEmail, password);
-                AuthResponse response = apiService.login(loginRequest);
-                
-                Platform.runLater(() -> {
-                    if (response.isSuccess() && response.getToken() != null) {
-                        // Navigate to dashboard
-                        navigateToDashboard();
-                    } else {
-                        showLoginError(response.getMessage() != null ? response.getMessage() : "Login failed. Please check your credentials.");
-                        loginButton.setDisable(false);
-                    }
-                });
+                return apiService.login(loginRequest);
             } catch (IOException e) {
-                // Run in separate thread to avoid blocking
-                new Thread(() -> {
-                    // If backend is not available, try SQLite authentication
-                    System.out.println("Backend unavailable, trying local authentication...");
-                    System.out.println("Looking for user: " + usernameOrEmail);
+                offline.set(true);
+                return loginOffline(usernameOrEmail, password);
+            }
+        }, response -> {
+            if (response.isSuccess() && (offline.get() || response.getToken() != null)) {
+                if (offline.get()) {
+                    showLoginError("✓ Offline login successful!");
+                    errorLabel.setStyle("-fx-text-fill: #00FF00;"); // Green
                     
-                    try {
-                        User localUser = null;
-                        
-                        // Try to find user by email or username
-                        if (usernameOrEmail.contains("@")) {
-                            localUser = UserDatabase.getUserByEmail(usernameOrEmail);
-                            System.out.println("Searched by email, found: " + (localUser != null));
-                        } else {
-                            localUser = UserDatabase.getUserByUsername(usernameOrEmail);
-                            System.out.println("Searched by username, found: " + (localUser != null));
-                        }
-                        
-                        if (localUser != null) {
-                            System.out.println("User found. Checking password...");
-                            System.out.println("Stored password: " + localUser.getPassword());
-                            System.out.println("Entered password: " + password);
-                            
-                            if (localUser.getPassword().equals(password)) {
-                                // Successful local authentication
-                                System.out.println("Password match! Logging in...");
-                                apiService.setCurrentUser(localUser);
-                                
-                                Platform.runLater(() -> {
-                                    showLoginError("✓ Offline login successful!");
-                                    errorLabel.setStyle("-fx-text-fill: #00FF00;"); // Green
-                                    
-                                    // Navigate after delay
-                                    new Thread(() -> {
-                                        try {
-                                            Thread.sleep(1000);
-                                            Platform.runLater(() -> navigateToDashboard());
-                                        } catch (InterruptedException ie) {
-                                            Thread.currentThread().interrupt();
-                                        }
-                                    }).start();
-                                });
-                            } else {
-                                System.out.println("Password mismatch!");
-                                Platform.runLater(() -> {
-                                    showLoginError("Incorrect password");
-                                    loginButton.setDisable(false);
-                                });
-                            }
-                        } else {
-                            System.out.println("User not found in database");
-                            Platform.runLater(() -> {
-                                showLoginError("User not found. Please sign up first.");
-                                loginButton.setDisable(false);
-                            });
-                        }
-                    } catch (SQLException sqlEx) {
-                        sqlEx.printStackTrace();
-                        Platform.runLater(() -> {
-                            showLoginError("Database error: " + sqlEx.getMessage());
-                            loginButton.setDisable(false);
-                        });
-                    }
-                }).start();
+                    // Navigate after delay
+                    after(1000, this::navigateToDashboard);
+                } else {
+                    // Navigate to dashboard
+                    navigateToDashboard();
+                }
+            } else {
+                showLoginError(response.getMessage() != null ? response.getMessage() : "Login failed. Please check your credentials.");
+                loginButton.setDisable(false);
             }
-        }).start();
+        }, e -> {
+            e.printStackTrace();
+            showLoginError((e instanceof SQLException ? "Database error: " : "Login failed: ") + e.getMessage());
+            loginButton.setDisable(false);
+        });
+    }
+    
+    /**
+     * Authenticate against the local SQLite user table (backend unavailable)
+     */
+    private AuthResponse loginOffline(String usernameOrEmail, String password) throws SQLException {
+        System.out.println("Backend unavailable, trying local authentication...");
+        System.out.println("Looking for user: " + usernameOrEmail);
+        
+        AuthResponse result = new AuthResponse();
+        User localUser = null;
+        
+        // Try to find user by email or username
+        if (usernameOrEmail.contains("@")) {
+            localUser = UserDatabase.getUserByEmail(usernameOrEmail);
+            System.out.println("Searched by email, found: " + (localUser != null));
+        } else {
+            localUser = UserDatabase.getUserByUsername(usernameOrEmail);
+            System.out.println("Searched by username, found: " + (localUser != null));
+        }
+        
+        if (localUser == null) {
+            System.out.println("User not found in database");
+            result.setSuccess(false);
+            result.setMessage("User not found. Please sign up first.");
+        } else if (!localUser.getPassword().equals(password)) {
+            System.out.println("Password mismatch!");
+            result.setSuccess(false);
+            result.setMessage("Incorrect password");
+        } else {
+            // Successful local authentication
+            System.out.println("Password match! Logging in...");
+            apiService.setCurrentUser(localUser);
+            result.setSuccess(true);
+        }
+        return result;
+    }
+    
+    /**
+     * Run an action on the FX thread after a delay, without blocking a thread
+     */
+    private void after(long millis, Runnable action) {
+        PauseTransition pause = new PauseTransition(Duration.millis(millis));
+        pause.setOnFinished(e -> action.run());
+        pause.play();
     }
     
     @FXML
@@ -281,81 +277,59 @@ public class LoginController {
         signupButton.setDisable(true);
         signupErrorLabel.setVisible(false);
         
-        // Run signup in background thread
-        new Thread(() -> {
+        // Run signup in the background; saved locally when the backend is unreachable
+        AtomicBoolean savedLocally = new AtomicBoolean(false);
+        TaskScheduler.runInBackground(() -> {
+            // Check if user already exists in SQLite
+            if (UserDatabase.userExists(email)) {
+                AuthResponse exists = new AuthResponse();
+                exists.setSuccess(false);
+                exists.setMessage("User with this email already exists locally");
+                return exists;
+            }
+            
+            // Create new user
+            User newUser = new User();
+            newUser.setFirstName(firstName);
+            newUser.setLastName(lastName);
+            newUser.setEmail(email);
+            newUser.setUsername(username);
+            newUser.setPassword(password);
+            newUser.setHasStocks(false);
+            
+            // Try to register with backend
             try {
-                // Check if user already exists in SQLite
-                if (UserDatabase.userExists(email)) {
-                    Platform.runLater(() -> {
-                        showSignupError("User with this email already exists locally");
-                        signupButton.setDisable(false);
-                    });
-                    return;
-                }
+                return apiService.register(newUser);
+            } catch (IOException e) {
+                // Backend unavailable, save to SQLite only
+                System.out.println("Backend unavailable, saving user locally...");
                 
-                // Create new user
-                User newUser = new User();
-                newUser.setFirstName(firstName);
-                newUser.setLastName(lastName);
-                newUser.setEmail(email);
-                newUser.setUsername(username);
-                newUser.setPassword(password);
-                newUser.setHasStocks(false);
+                UserDatabase.saveUser(newUser);
+                apiService.setCurrentUser(newUser);
+                savedLocally.set(true);
                 
-                // Try to register with backend
-                try {
-                    AuthResponse response = apiService.register(newUser);
-                    
-                    Platform.runLater(() -> {
-                        if (response.isSuccess()) {
-                            showSignupError("✓ Registration successful! Switching to login...");
-                            signupErrorLabel.setStyle("-fx-text-fill: #00FF00;"); // Green for success
-                            new Thread(() -> {
-                                try {
-                                    Thread.sleep(1500);
-                                    Platform.runLater(() -> {
-                                        signupErrorLabel.setStyle("-fx-text-fill: #FF0000;"); // Reset to red
-                                        handleLoginTab();
-                                    });
-                                } catch (InterruptedException e) {
-                                    Thread.currentThread().interrupt();
-                                }
-                            }).start();
-                        } else {
-                            showSignupError(response.getMessage() != null ? response.getMessage() : "Registration failed");
-                            signupButton.setDisable(false);
-                        }
-                    });
-                } catch (IOException e) {
-                    // Backend unavailable, save to SQLite only
-                    System.out.println("Backend unavailable, saving user locally...");
-                    
-                    UserDatabase.saveUser(newUser);
-                    apiService.setCurrentUser(newUser);
-                    
-                    Platform.runLater(() -> {
-                        showSignupError("✓ Account saved locally! Switching to login...");
-                        signupErrorLabel.setStyle("-fx-text-fill: #00FF00;"); // Green for success
-                        new Thread(() -> {
-                            try {
-                                Thread.sleep(1500);
-                                Platform.runLater(() -> {
-                                    signupErrorLabel.setStyle("-fx-text-fill: #FF0000;"); // Reset to red
-                                    handleLoginTab();
-                                });
-                            } catch (InterruptedException ie) {
-                                Thread.currentThread().interrupt();
-                            }
-                        }).start();
-                    });
-                }
-            } catch (SQLException sqlEx) {
-                Platform.runLater(() -> {
-                    showSignupError("Database error: " + sqlEx.getMessage());
-                    signupButton.setDisable(false);
+                AuthResponse saved = new AuthResponse();
+                saved.setSuccess(true);
+                return saved;
+            }
+        }, response -> {
+            if (response.isSuccess()) {
+                showSignupError(savedLocally.get()
+                        ? "✓ Account saved locally! Switching to login..."
+                        : "✓ Registration successful! Switching to login...");
+                signupErrorLabel.setStyle("-fx-text-fill: #00FF00;"); // Green for success
+                after(1500, () -> {
+                    signupErrorLabel.setStyle("-fx-text-fill: #FF0000;"); // Reset to red
+                    handleLoginTab();
                 });
+            } else {
+                showSignupError(response.getMessage() != null ? response.getMessage() : "Registration failed");
+                signupButton.setDisable(false);
             }
-        }).start();
+        }, e -> {
+            showSignupError((e instanceof SQLException ? "Database error: " : "Registration failed: ") + e.getMessage());
+            signupButton.setDisable(false);
+        });
     }
     
     @FXML
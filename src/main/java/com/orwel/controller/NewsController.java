@@ -1,23 +1,28 @@
 package com.orwel.controller;
 
+import com.orwel.config.AppConfig;
 import com.orwel.model.Country;
 import com.orwel.model.NewsArticle;
 import com.orwel.service.ApiService;
+import com.orwel.util.LoadHandle;
+import com.orwel.util.LoadScope;
 import com.orwel.util.NavigationHelper;
+import com.orwel.util.ViewLifecycle;
+import com.orwel.view.NewsArticleCell;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
-import javafx.util.Callback;
+import javafx.util.Duration;
 
-import java.io.IOException;
-import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
-public class NewsController {
+public class NewsController implements ViewLifecycle {
     @FXML private Label newsTitleLabel;
     @FXML private ListView<NewsArticle> newsListView;
     @FXML private ToggleGroup newsTypeGroup;
@@ -27,79 +32,41 @@ public class NewsController {
     @FXML private ComboBox<String> countryComboBox;
     @FXML private TextField searchField;
     
+    // Search, personalized and general news all fill newsListView, so they share one slot
+    private static final String NEWS_SLOT = "news";
+    
     private ApiService apiService = ApiService.getInstance();
+    private final LoadScope loads = new LoadScope();
+    private PauseTransition searchDebounce;
+    private String lastSearchKey; // (query, country, region) of the results on screen, null when showing a feed
+    private boolean shown; // Filter events before onShow (initial setValue, maybe during a background preload) don't load
     
     @FXML
     public void initialize() {
         setupListView();
         setupFilters();
-        loadPersonalizedNews();
+        setupSearch();
+    }
+    
+    @Override
+    public void onShow() {
+        loads.reopen();
+        shown = true;
+        if (countryComboBox.getItems().isEmpty()) {
+            loadCountries();
+        }
+        // Refresh whatever was on screen when the view was left (the personalized feed the first time)
+        handleFilterChange();
+    }
+    
+    @Override
+    public void onHide() {
+        shown = false;
+        searchDebounce.stop();
     }
     
     private void setupListView() {
-        newsListView.setCellFactory(new Callback<ListView<NewsArticle>, ListCell<NewsArticle>>() {
-            @Override
-            public ListCell<NewsArticle> call(ListView<NewsArticle> param) {
-                return new ListCell<NewsArticle>() {
-                    @Override
-                    protected void updateItem(NewsArticle article, boolean empty) {
-                        super.updateItem(article, empty);
-                        if (empty || article == null) {
-                            setText(null);
-                            setGraphic(null);
-                        } else {
-                            VBox vbox = new VBox(10);
-                            vbox.setStyle("-fx-padding: 15;");
-                            
-                            Label titleLabel = new Label(article.getTitle());
-                            titleLabel.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
-                            titleLabel.setWrapText(true);
-                            
-                            Label summaryLabel = new Label(article.getSummary() != null ? article.getSummary() : "");
-                            summaryLabel.setWrapText(true);
-                            summaryLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: #7f8c8d;");
-                            
-                            HBox metaBox = new HBox(10);
-                            if (article.getSource() != null) {
-                                Label sourceLabel = new Label("Source: " + article.getSource());
-                                sourceLabel.setStyle("-fx-font-size: 11px; -fx-text-fill: #95a5a6;");
-                                metaBox.getChildren().add(sourceLabel);
-                            }
-                            if (article.getPublishedAt() != null) {
-                                Label dateLabel = new Label(article.getPublishedAt().format(DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm")));
-                                dateLabel.setStyle("-fx-font-size: 11px; -fx-text-fill: #95a5a6;");
-                                metaBox.getChildren().add(dateLabel);
-                            }
-                            if (article.getCountryCode() != null) {
-                                Label countryLabel = new Label("Country: " + article.getCountryCode());
-                                countryLabel.setStyle("-fx-font-size: 11px; -fx-text-fill: #95a5a6;");
-                                metaBox.getChildren().add(countryLabel);
-                            }
-                            
-                            if (article.getRelevanceScore() != null && article.getRelevanceScore() > 0) {
-                                Label relevanceLabel = new Label("Relevance: " + String.format("%.0f%%", article.getRelevanceScore() * 100));
-                                relevanceLabel.setStyle("-fx-font-size: 11px; -fx-text-fill: #27ae60; -fx-font-weight: bold;");
-                                metaBox.getChildren().add(relevanceLabel);
-                            }
-                            
-                            vbox.getChildren().addAll(titleLabel, summaryLabel, metaBox);
-                            setGraphic(vbox);
-                            
-                            setOnMouseClicked(e -> {
-                                if (e.getClickCount() == 2 && article.getUrl() != null) {
-                                    // Open URL in browser
-                                    try {
-                                        java.awt.Desktop.getDesktop().browse(new java.net.URI(article.getUrl()));
-                                    } catch (Exception ex) {
-                                        // Could not open browser
-                                    }
-                                }
-                            });
-                        }
-                    }
-                };
-            }
-        });
+        newsListView.setCellFactory(list -> new NewsArticleCell());
     }
     
     private void setupFilters() {
@@ -109,41 +76,71 @@ public class NewsController {
         );
         regionComboBox.setItems(FXCollections.observableArrayList(regions));
         regionComboBox.setValue("All Regions");
+    }
+    
+    private void loadCountries() {
+        loads.run("countries", apiService::getAllCountries, countries -> {
+            if (countries != null) {
+                List<String> countryNames = countries.stream()
+                    .map(Country::getName)
+                    .collect(java.util.stream.Collectors.toList());
+                countryNames.add(0, "All Countries");
+                countryComboBox.setItems(FXCollections.observableArrayList(countryNames));
+                countryComboBox.setValue("All Countries");
+            }
+        }, e -> showError("Failed to load countries: " + e.getMessage()));
+    }
+    
+    /**
+     * Search as you type: a search is sent once typing pauses for the debounce interval
+     * Clearing the field goes back to the news feed
+     */
+    private void setupSearch() {
+        searchDebounce = new PauseTransition(Duration.millis(AppConfig.SEARCH_DEBOUNCE_MS));
+        searchDebounce.setOnFinished(e -> runSearch(false));
         
-        // Load countries
-        new Thread(() -> {
-            try {
-                List<Country> countries = apiService.getAllCountries();
-                if (countries != null) {
-                    Platform.runLater(() -> {
-                        List<String> countryNames = countries.stream()
-                            .map(Country::getName)
-                            .collect(java.util.stream.Collectors.toList());
-                        countryNames.add(0, "All Countries");
-                        countryComboBox.setItems(FXCollections.observableArrayList(countryNames));
-                        countryComboBox.setValue("All Countries");
-                    });
+        searchField.textProperty().addListener((obs, oldText, newText) -> {
+            String query = newText == null ? "" : newText.trim();
+            if (query.isEmpty()) {
+                searchDebounce.stop();
+                if (lastSearchKey != null) {
+                    loadFeed();
                 }
-            } catch (IOException e) {
-                e.printStackTrace();
+            } else if (query.length() < AppConfig.SEARCH_MIN_QUERY_LENGTH) {
+                searchDebounce.stop();
+            } else {
+                searchDebounce.playFromStart();
             }
-        }).start();
+        });
     }
     
     @FXML
     private void handleFilterChange() {
-        if (personalizedRadio.isSelected()) {
-            loadPersonalizedNews();
+        if (!shown) {
+            return;
+        }
+        // Filters apply to the search results while a query is entered
+        if (!searchField.getText().trim().isEmpty()) {
+            runSearch(true);
         } else {
-            loadGeneralNews();
+            loadFeed();
         }
     }
     
     @FXML
     private void handleSearch() {
+        searchDebounce.stop();
+        runSearch(true);
+    }
+    
+    /**
+     * Search for the current query and filters, superseding any search still in flight
+     * @param force Search even if these results are already shown (Enter, filter change)
+     */
+    private void runSearch(boolean force) {
         String query = searchField.getText().trim();
         if (query.isEmpty()) {
-            handleFilterChange();
+            loadFeed();
             return;
         }
         
@@ -153,51 +150,84 @@ public class NewsController {
         final String country = ("All Countries".equals(countryValue)) ? null : countryValue;
         final String region = ("All Regions".equals(regionValue)) ? null : regionValue;
         
-        new Thread(() -> {
-            try {
-                List<NewsArticle> articles = apiService.searchNews(query, country, region);
-                Platform.runLater(() -> {
-                    newsTitleLabel.setText("Search Results");
-                    newsListView.getItems().setAll(articles != null ? articles : List.of());
-                });
-            } catch (IOException e) {
-                Platform.runLater(() -> {
-                    showError("Search failed: " + e.getMessage());
-                });
-            }
-        }).start();
+        String searchKey = query.toLowerCase(Locale.ROOT) + "|" + country + "|" + region;
+        if (!force && searchKey.equals(lastSearchKey)) {
+            return;
+        }
+        lastSearchKey = searchKey;
+        
+        loads.run(NEWS_SLOT, () -> apiService.searchNews(query, country, region), articles -> {
+            newsTitleLabel.setText("Search Results");
+            newsListView.getItems().setAll(articles != null ? articles : List.of());
+        }, e -> showError("Search failed: " + e.getMessage()));
+    }
+    
+    private void loadFeed() {
+        if (personalizedRadio.isSelected()) {
+            loadPersonalizedNews();
+        } else {
+            loadGeneralNews();
+        }
     }
     
     private void loadPersonalizedNews() {
+        lastSearchKey = null;
         newsTitleLabel.setText("Personalized News");
-        new Thread(() -> {
-            try {
-                List<NewsArticle> articles = apiService.getPersonalizedNews();
-                Platform.runLater(() -> {
-                    newsListView.getItems().setAll(articles != null ? articles : List.of());
-                });
-            } catch (IOException e) {
-                Platform.runLater(() -> {
-                    showError("Failed to load personalized news: " + e.getMessage());
-                });
+        loads.run(NEWS_SLOT, () -> apiService.getPersonalizedNews(appendToList(), replaceList()), articles -> {
+            if (articles == null || articles.isEmpty()) {
+                newsListView.getItems().clear();
             }
-        }).start();
+        }, e -> showError("Failed to load personalized news: " + e.getMessage()));
     }
     
     private void loadGeneralNews() {
+        lastSearchKey = null;
         newsTitleLabel.setText("General News");
-        new Thread(() -> {
-            try {
-                List<NewsArticle> articles = apiService.getGeneralNews();
-                Platform.runLater(() -> {
-                    newsListView.getItems().setAll(articles != null ? articles : List.of());
-                });
-            } catch (IOException e) {
-                Platform.runLater(() -> {
-                    showError("Failed to load general news: " + e.getMessage());
-                });
+        loads.run(NEWS_SLOT, () -> apiService.getGeneralNews(appendToList(), replaceList()), articles -> {
+            if (articles == null || articles.isEmpty()) {
+                newsListView.getItems().clear();
             }
-        }).start();
+        }, e -> showError("Failed to load general news: " + e.getMessage()));
+    }
+    
+    /**
+     * Batch consumer that replaces the list with the first batch and appends the rest,
+     * so articles appear while the response is still streaming in
+     * Must be created inside the load; batches of a superseded load are dropped
+     */
+    private Consumer<List<NewsArticle>> appendToList() {
+        LoadHandle load = LoadHandle.current();
+        AtomicBoolean first = new AtomicBoolean(true);
+        return batch -> {
+            boolean replace = first.getAndSet(false);
+            Platform.runLater(() -> {
+                if (!isCurrentNewsLoad(load)) {
+                    return;
+                }
+                if (replace) {
+                    newsListView.getItems().setAll(batch);
+                } else {
+                    newsListView.getItems().addAll(batch);
+                }
+            });
+        };
+    }
+    
+    /**
+     * Consumer that swaps in a refreshed list after a background revalidation,
+     * unless another news load has replaced the one it belongs to
+     */
+    private Consumer<List<NewsArticle>> replaceList() {
+        LoadHandle load = LoadHandle.current();
+        return articles -> Platform.runLater(() -> {
+            if (isCurrentNewsLoad(load)) {
+                newsListView.getItems().setAll(articles);
+            }
+        });
+    }
+    
+    private boolean isCurrentNewsLoad(LoadHandle load) {
+        return load == null || loads.isCurrent(NEWS_SLOT, load);
     }
     
     private void showError(String message) {
@@ -212,7 +242,6 @@ public class NewsController {
     @FXML private void navigateToProfile(javafx.event.ActionEvent event) { NavigationHelper.navigate((javafx.scene.Node) event.getSource(), "/fxml/Profile.fxml"); }
     @FXML private void navigateToAbout(javafx.event.ActionEvent event) { NavigationHelper.navigate((javafx.scene.Node) event.getSource(), "/fxml/About.fxml"); }
     @FXML private void handleLogout(javafx.event.ActionEvent event) {
-        apiService.logout();
-        NavigationHelper.navigate((javafx.scene.Node) event.getSource(), "/fxml/Login.fxml");
+        NavigationHelper.logout((javafx.scene.Node) event.getSource());
     }
 }
@@ -1,6 +1,5 @@
 package com.orwel.controller;
 
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -8,8 +7,9 @@ import java.util.stream.Collectors;
 import com.orwel.model.User;
 import com.orwel.service.ApiService;
 import com.orwel.util.NavigationHelper;
+import com.orwel.util.TaskScheduler;
+import com.orwel.util.ViewLifecycle;
 
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
@@ -17,7 +17,7 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 
-public class ProfileController {
+public class ProfileController implements ViewLifecycle {
     @FXML private TextField firstNameField;
     @FXML private TextField lastNameField;
     @FXML private TextField emailField;
@@ -39,30 +39,26 @@ public class ProfileController {
             if (tagsHelpLabel != null) {
                 tagsHelpLabel.setText("Enter comma-separated commodity tags (e.g., oil, gold, IT sector, iron, finance)");
             }
-            
-            // Load user data
-            loadUserData();
         } catch (Exception e) {
             System.err.println("[ProfileController] Error in initialize: " + e.getMessage());
             e.printStackTrace();
         }
     }
     
+    @Override
+    public void onShow() {
+        // Start from the stored profile, discarding edits that weren't saved
+        errorLabel.setVisible(false);
+        successLabel.setVisible(false);
+        loadUserData();
+    }
+    
     private void loadUserData() {
-        new Thread(() -> {
-            try {
-                User user = apiService.getCurrentUser();
-                if (user != null) {
-                    Platform.runLater(() -> {
-                        populateForm(user);
-                    });
-                }
-            } catch (Exception e) {
-                Platform.runLater(() -> {
-                    showError("Failed to load user data: " + e.getMessage());
-                });
+        TaskScheduler.runInBackground(apiService::getCurrentUser, user -> {
+            if (user != null) {
+                populateForm(user);
             }
-        }).start();
+        }, e -> showError("Failed to load user data: " + e.getMessage()));
     }
     
     private void populateForm(User user) {
@@ -103,34 +99,24 @@ public class ProfileController {
             user.setCommodityTags(tags);
             
             // Also save tags via dedicated endpoint
-            new Thread(() -> {
-                try {
-                    apiService.saveUserTags(tags);
-                } catch (IOException e) {
-                    System.err.println("Failed to save tags: " + e.getMessage());
-                }
-            }).start();
+            TaskScheduler.runInBackground(() -> {
+                apiService.saveUserTags(tags);
+                return null;
+            }, null, e -> System.err.println("Failed to save tags: " + e.getMessage()));
         }
         
-        new Thread(() -> {
-            try {
-                User updatedUser = apiService.updateUser(user);
-                Platform.runLater(() -> {
-                    if (updatedUser != null) {
-                        showSuccess("Profile updated successfully!");
-                        saveButton.setDisable(false);
-                    } else {
-                        showError("Failed to update profile");
-                        saveButton.setDisable(false);
-                    }
-                });
-            } catch (IOException e) {
-                Platform.runLater(() -> {
-                    showError("Connection error: " + e.getMessage());
-                    saveButton.setDisable(false);
-                });
+        TaskScheduler.runInBackground(() -> apiService.updateUser(user), updatedUser -> {
+            if (updatedUser != null) {
+                showSuccess("Profile updated successfully!");
+                saveButton.setDisable(false);
+            } else {
+                showError("Failed to update profile");
+                saveButton.setDisable(false);
             }
-        }).start();
+        }, e -> {
+            showError("Connection error: " + e.getMessage());
+            saveButton.setDisable(false);
+        });
     }
     
     @FXML
@@ -183,7 +169,6 @@ public class ProfileController {
     
     @FXML
     private void handleLogout() {
-        apiService.logout();
-        NavigationHelper.navigate(saveButton, "/fxml/Login.fxml");
+        NavigationHelper.logout(saveButton);
     }
 }
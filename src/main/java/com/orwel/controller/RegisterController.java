@@ -6,12 +6,11 @@ import com.orwel.model.User;
 import com.orwel.service.ApiService;
 import com.orwel.service.LocationService;
 import com.orwel.util.NavigationHelper;
-import javafx.application.Platform;
+import com.orwel.util.TaskScheduler;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -86,36 +85,29 @@ public class RegisterController {
         locationStatusLabel.setText("Geocoding address...");
         locationStatusLabel.setVisible(true);
         
-        new Thread(() -> {
-            try {
-                LocationInfo info = locationService.geocodeAddress(address);
-                Platform.runLater(() -> {
-                    locationInfo = info;
-                    if (info.getCity() != null && cityField.getText().isEmpty()) {
-                        cityField.setText(info.getCity());
-                    }
-                    if (info.getCountryCode() != null) {
-                        // Try to match country
-                        String countryName = getCountryNameFromCode(info.getCountryCode());
-                        if (countryName != null && countryComboBox.getItems().contains(countryName)) {
-                            countryComboBox.setValue(countryName);
-                        }
-                    }
-                    if (info.getRegion() != null) {
-                        // Could add region field if needed
-                    }
-                    locationStatusLabel.setText("Location found: " + info.getFormattedAddress());
-                    locationStatusLabel.setStyle("-fx-text-fill: #27ae60;");
-                    geocodeButton.setDisable(false);
-                });
-            } catch (IOException e) {
-                Platform.runLater(() -> {
-                    locationStatusLabel.setText("Geocoding failed: " + e.getMessage());
-                    locationStatusLabel.setStyle("-fx-text-fill: #e74c3c;");
-                    geocodeButton.setDisable(false);
-                });
+        TaskScheduler.runInBackground(() -> locationService.geocodeAddress(address), info -> {
+            locationInfo = info;
+            if (info.getCity() != null && cityField.getText().isEmpty()) {
+                cityField.setText(info.getCity());
             }
-        }).start();
+            if (info.getCountryCode() != null) {
+                // Try to match country
+                String countryName = getCountryNameFromCode(info.getCountryCode());
+                if (countryName != null && countryComboBox.getItems().contains(countryName)) {
+                    countryComboBox.setValue(countryName);
+                }
+            }
+            if (info.getRegion() != null) {
+                // Could add region field if needed
+            }
+            locationStatusLabel.setText("Location found: " + info.getFormattedAddress());
+            locationStatusLabel.setStyle("-fx-text-fill: #27ae60;");
+            geocodeButton.setDisable(false);
+        }, e -> {
+            locationStatusLabel.setText("Geocoding failed: " + e.getMessage());
+            locationStatusLabel.setStyle("-fx-text-fill: #e74c3c;");
+            geocodeButton.setDisable(false);
+        });
     }
     
     private String getCountryNameFromCode(String code) {
@@ -164,25 +156,18 @@ public class RegisterController {
         user.setHasStocks(hasStocksCheckbox != null && hasStocksCheckbox.isSelected());
         
         // Register user
-        new Thread(() -> {
-            try {
-                AuthResponse response = apiService.register(user);
-                Platform.runLater(() -> {
-                    if (response.isSuccess() && response.getToken() != null) {
-                        // Navigate to dashboard
-                        navigateToDashboard();
-                    } else {
-                        showError(response.getMessage() != null ? response.getMessage() : "Registration failed");
-                        registerButton.setDisable(false);
-                    }
-                });
-            } catch (IOException e) {
-                Platform.runLater(() -> {
-                    showError("Connection error: " + e.getMessage());
-                    registerButton.setDisable(false);
-                });
+        TaskScheduler.runInBackground(() -> apiService.register(user), response -> {
+            if (response.isSuccess() && response.getToken() != null) {
+                // Navigate to dashboard
+                navigateToDashboard();
+            } else {
+                showError(response.getMessage() != null ? response.getMessage() : "Registration failed");
+                registerButton.setDisable(false);
             }
-        }).start();
+        }, e -> {
+            showError("Connection error: " + e.getMessage());
+            registerButton.setDisable(false);
+        });
     }
     
     private boolean validateForm() {
@@ -0,0 +1,34 @@
+package com.orwel.model;
+
+import java.util.List;
+
+/**
+ * All dashboard sections returned by one batched request
+ */
+public class DashboardBundle {
+    private DashboardStats stats;
+    private List<Legislation> legislation;
+    private List<CommitteeMaterial> hearings;
+    private List<Nomination> nominations;
+    private List<Committee> committees;
+    private List<Treaty> treaties;
+    
+    // Getters and Setters
+    public DashboardStats getStats() { return stats; }
+    public void setStats(DashboardStats stats) { this.stats = stats; }
+    
+    public List<Legislation> getLegislation() { return legislation; }
+    public void setLegislation(List<Legislation> legislation) { this.legislation = legislation; }
+    
+    public List<CommitteeMaterial> getHearings() { return hearings; }
+    public void setHearings(List<CommitteeMaterial> hearings) { this.hearings = hearings; }
+    
+    public List<Nomination> getNominations() { return nominations; }
+    public void setNominations(List<Nomination> nominations) { this.nominations = nominations; }
+    
+    public List<Committee> getCommittees() { return committees; }
+    public void setCommittees(List<Committee> committees) { this.committees = committees; }
+    
+    public List<Treaty> getTreaties() { return treaties; }
+    public void setTreaties(List<Treaty> treaties) { this.treaties = treaties; }
+}
@@ -19,6 +19,7 @@ public class NewsArticle {
     private List<String> relatedPoliticians;
     private String category; // personalized, general, politics, etc.
     private Double relevanceScore; // For personalized news
+    private String searchSnippet; // Local search only, not part of the API payload
     
     // Getters and Setters
     public Long getId() { return id; }
@@ -65,4 +66,7 @@ public class NewsArticle {
     
     public Double getRelevanceScore() { return relevanceScore; }
     public void setRelevanceScore(Double relevanceScore) { this.relevanceScore = relevanceScore; }
+    
+    public String getSearchSnippet() { return searchSnippet; }
+    public void setSearchSnippet(String searchSnippet) { this.searchSnippet = searchSnippet; }
 }
@@ -1,9 +1,9 @@
 package com.orwel.service;
 
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.orwel.config.AppConfig;
 import com.orwel.model.*;
+import com.orwel.util.LoadHandle;
 import okhttp3.*;
 
 import java.io.IOException;
@@ -11,32 +11,40 @@ import java.lang.reflect.Type;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 public class ApiService {
     private static final ApiService instance = new ApiService();
+    private static final int DEFAULT_LIST_LIMIT = 20;
+    
+    // Response cache: entries older than their TTL are still served, then revalidated in the background
+    private static final int CACHE_MAX_ENTRIES = 128;
+    private static final long COUNTRIES_TTL_MS = TimeUnit.HOURS.toMillis(1);
+    private static final long COUNTRY_TTL_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final long WARNINGS_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final long NEWS_TTL_MS = TimeUnit.MINUTES.toMillis(2);
+    private static final long TAGGED_LIST_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final long DASHBOARD_TTL_MS = TimeUnit.MINUTES.toMillis(1);
+    
+    // Search results per (query, country, region); longer queries are filtered locally from complete shorter ones
+    private static final int SEARCH_CACHE_MAX_ENTRIES = 64;
+    private static final int SEARCH_RESULT_LIMIT = 50;
+    
     private final OkHttpClient client;
     private final Gson gson;
+    private final ResponseCache cache;
+    private final NewsSearchCache searchCache = new NewsSearchCache(SEARCH_CACHE_MAX_ENTRIES, NEWS_TTL_MS);
+    private final SingleFlight flights = new SingleFlight("ApiService");
+    // Cleared when the backend has no /dashboard/bundle route (404), like SupabaseClient's RPC check
+    private volatile boolean bundleRouteAvailable = true;
     private String authToken;
     private User currentUser;
     
-    static {
-        // Initialize SQLite database on class load
-        try {
-            UserDatabase.initializeDatabase();
-            System.out.println("SQLite database initialized successfully");
-        } catch (SQLException e) {
-            System.err.println("Failed to initialize database: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
     private ApiService() {
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(2, TimeUnit.SECONDS)
-                .readTimeout(3, TimeUnit.SECONDS)
-                .writeTimeout(3, TimeUnit.SECONDS)
-                .build();
-        this.gson = new Gson();
+        this.client = HttpClientFactory.newClient(2, 3, 3);
+        this.gson = ModelAdapters.createGson(false);
+        this.cache = new ResponseCache(CACHE_MAX_ENTRIES, gson);
         
         // Check if Supabase direct connection is configured
         if (AppConfig.isSupabaseConfigured()) {
@@ -53,6 +61,8 @@ public class ApiService {
     
     public void setAuthToken(String token) {
         this.authToken = token;
+        // Personalized responses belong to the previous session
+        cache.invalidate("news:personalized");
     }
     
     public String getAuthToken() {
@@ -86,9 +96,9 @@ public class ApiService {
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                AuthResponse authResponse = gson.fromJson(response.body().string(), AuthResponse.class);
+                AuthResponse authResponse = JsonResponses.read(gson, response, AuthResponse.class);
                 if (authResponse.isSuccess() && authResponse.getToken() != null) {
                     setAuthToken(authResponse.getToken());
                     
@@ -138,9 +148,9 @@ public class ApiService {
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                AuthResponse authResponse = gson.fromJson(response.body().string(), AuthResponse.class);
+                AuthResponse authResponse = JsonResponses.read(gson, response, AuthResponse.class);
                 
                 // Save user to SQLite for offline access
                 if (authResponse.isSuccess()) {
@@ -162,9 +172,22 @@ public class ApiService {
         }
     }
     
+    /**
+     * Drop cached tagged lists so the next read picks up rows the replica sync just applied
+     */
+    public void invalidateTaggedLists() {
+        cache.invalidate("legislation");
+        cache.invalidate("hearings");
+        cache.invalidate("nominations");
+        cache.invalidate("committees");
+        cache.invalidate("dashboard");
+    }
+    
     public void logout() {
         this.authToken = null;
         this.currentUser = null;
+        cache.clear();
+        searchCache.clear();
     }
     
     // User Endpoints
@@ -174,9 +197,9 @@ public class ApiService {
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                User user = gson.fromJson(response.body().string(), User.class);
+                User user = JsonResponses.read(gson, response, User.class);
                 setCurrentUser(user);
                 
                 // Save to SQLite
@@ -201,9 +224,9 @@ public class ApiService {
                 .put(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                User updatedUser = gson.fromJson(response.body().string(), User.class);
+                User updatedUser = JsonResponses.read(gson, response, User.class);
                 setCurrentUser(updatedUser);
                 
                 // Save to SQLite
@@ -219,46 +242,100 @@ public class ApiService {
         }
     }
     
+    /**
+     * Cached read whose network fetch is shared by concurrent identical callers
+     * Everything fetched is also fed to the local search index.
+     * The public read methods taking an onUpdate callback all go through here: a cached value
+     * is returned at once, even past its TTL; a stale one is then revalidated in the background
+     * and onUpdate (if not null) is called from that background thread with the refreshed value,
+     * only when it differs from what was returned
+     */
+    private <T> T read(String key, long ttlMs, ResponseCache.Fetcher<T> fetcher, Consumer<T> onUpdate) throws IOException {
+        return cache.get(key, ttlMs, () -> {
+            T fetched = flights.execute(key, fetcher);
+            LocalSearchIndex.index(fetched);
+            return fetched;
+        }, onUpdate);
+    }
+    
+    /**
+     * Hit/miss counters of the request coalescing layer
+     */
+    public SingleFlight getSingleFlight() {
+        return flights;
+    }
+    
     // Country Endpoints
     public List<Country> getAllCountries() throws IOException {
+        return getAllCountries(null);
+    }
+    
+    /**
+     * All countries
+     */
+    public List<Country> getAllCountries(Consumer<List<Country>> onUpdate) throws IOException {
+        return read(SingleFlight.key("countries"), COUNTRIES_TTL_MS, this::fetchAllCountries, onUpdate);
+    }
+    
+    private List<Country> fetchAllCountries() throws IOException {
         Request request = createRequestBuilder()
                 .url(AppConfig.API_BASE_URL + "/countries")
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<Country>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.COUNTRY_LIST);
             }
             return null;
         }
     }
     
     public Country getCountryByCode(String countryCode) throws IOException {
+        return getCountryByCode(countryCode, null);
+    }
+    
+    /**
+     * One country by code
+     */
+    public Country getCountryByCode(String countryCode, Consumer<Country> onUpdate) throws IOException {
+        return read(SingleFlight.key("country", countryCode), COUNTRY_TTL_MS, () -> fetchCountryByCode(countryCode), onUpdate);
+    }
+    
+    private Country fetchCountryByCode(String countryCode) throws IOException {
         Request request = createRequestBuilder()
                 .url(AppConfig.API_BASE_URL + "/countries/" + countryCode)
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                return gson.fromJson(response.body().string(), Country.class);
+                return JsonResponses.read(gson, response, Country.class);
             }
             return null;
         }
     }
     
     public List<Warning> getWarningsForUser(String countryCode) throws IOException {
+        return getWarningsForUser(countryCode, null);
+    }
+    
+    /**
+     * Warnings for a country
+     */
+    public List<Warning> getWarningsForUser(String countryCode, Consumer<List<Warning>> onUpdate) throws IOException {
+        return read(SingleFlight.key("warnings", countryCode), WARNINGS_TTL_MS, () -> fetchWarningsForUser(countryCode), onUpdate);
+    }
+    
+    private List<Warning> fetchWarningsForUser(String countryCode) throws IOException {
         Request request = createRequestBuilder()
                 .url(AppConfig.API_BASE_URL + "/countries/" + countryCode + "/warnings")
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<Warning>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.WARNING_LIST);
             }
             return null;
         }
@@ -266,68 +343,158 @@ public class ApiService {
     
     // News Endpoints
     public List<NewsArticle> getPersonalizedNews() throws IOException {
-        Request request = createRequestBuilder()
-                .url(AppConfig.API_BASE_URL + "/news/personalized")
-                .get()
-                .build();
-        
-        try (Response response = client.newCall(request).execute()) {
-            if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<NewsArticle>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+        return read(SingleFlight.key("news:personalized"), NEWS_TTL_MS, () -> fetchNews("/news/personalized", null), null);
+    }
+    
+    public List<NewsArticle> getGeneralNews() throws IOException {
+        return read(SingleFlight.key("news:general"), NEWS_TTL_MS, () -> fetchNews("/news/general", null), null);
+    }
+    
+    /**
+     * Stream personalized news; onBatch receives articles as they are decoded
+     * so the list can start filling before the whole payload has arrived
+     */
+    public List<NewsArticle> getPersonalizedNews(Consumer<List<NewsArticle>> onBatch) throws IOException {
+        return getPersonalizedNews(onBatch, null);
+    }
+    
+    /**
+     * Stream personalized news, serving a cached copy as a single batch when there is one
+     * @param onUpdate Receives the full refreshed list if a background revalidation changed it
+     */
+    public List<NewsArticle> getPersonalizedNews(Consumer<List<NewsArticle>> onBatch,
+                                                 Consumer<List<NewsArticle>> onUpdate) throws IOException {
+        return cachedNews("news:personalized", "/news/personalized", onBatch, onUpdate);
+    }
+    
+    /**
+     * Stream general news; onBatch receives articles as they are decoded
+     */
+    public List<NewsArticle> getGeneralNews(Consumer<List<NewsArticle>> onBatch) throws IOException {
+        return getGeneralNews(onBatch, null);
+    }
+    
+    /**
+     * Stream general news, serving a cached copy as a single batch when there is one
+     * @param onUpdate Receives the full refreshed list if a background revalidation changed it
+     */
+    public List<NewsArticle> getGeneralNews(Consumer<List<NewsArticle>> onBatch,
+                                            Consumer<List<NewsArticle>> onUpdate) throws IOException {
+        return cachedNews("news:general", "/news/general", onBatch, onUpdate);
+    }
+    
+    private List<NewsArticle> cachedNews(String key, String path, Consumer<List<NewsArticle>> onBatch,
+                                         Consumer<List<NewsArticle>> onUpdate) throws IOException {
+        // A miss streams on the calling thread; background revalidations decode in one go
+        Thread caller = Thread.currentThread();
+        AtomicBoolean streamed = new AtomicBoolean(false);
+        List<NewsArticle> articles = read(key, NEWS_TTL_MS, () -> {
+            if (Thread.currentThread() != caller) {
+                return fetchNews(path, null);
             }
-            return null;
+            streamed.set(true);
+            return fetchNews(path, onBatch);
+        }, onUpdate);
+        if (!streamed.get() && articles != null && !articles.isEmpty()) {
+            onBatch.accept(articles);
         }
+        return articles;
     }
     
-    public List<NewsArticle> getGeneralNews() throws IOException {
+    private List<NewsArticle> fetchNews(String path, Consumer<List<NewsArticle>> onBatch) throws IOException {
         Request request = createRequestBuilder()
-                .url(AppConfig.API_BASE_URL + "/news/general")
+                .url(AppConfig.API_BASE_URL + path)
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<NewsArticle>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                if (onBatch == null) {
+                    return JsonResponses.read(gson, response, ModelTypes.NEWS_LIST);
+                }
+                return JsonResponses.readArray(gson, response, NewsArticle.class, onBatch);
             }
             return null;
         }
     }
     
     public List<NewsArticle> getNewsByCountry(String countryCode) throws IOException {
+        return getNewsByCountry(countryCode, null);
+    }
+    
+    /**
+     * News about a country
+     */
+    public List<NewsArticle> getNewsByCountry(String countryCode, Consumer<List<NewsArticle>> onUpdate) throws IOException {
+        return read(SingleFlight.key("news:country", countryCode), NEWS_TTL_MS, () -> fetchNewsByCountry(countryCode), onUpdate);
+    }
+    
+    private List<NewsArticle> fetchNewsByCountry(String countryCode) throws IOException {
         Request request = createRequestBuilder()
                 .url(AppConfig.API_BASE_URL + "/news/country/" + countryCode)
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<NewsArticle>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.NEWS_LIST);
             }
             return null;
         }
     }
     
     public List<NewsArticle> getNewsByRegion(String region) throws IOException {
+        return read(SingleFlight.key("news:region", region), NEWS_TTL_MS, () -> fetchNewsByRegion(region), null);
+    }
+    
+    private List<NewsArticle> fetchNewsByRegion(String region) throws IOException {
         Request request = createRequestBuilder()
                 .url(AppConfig.API_BASE_URL + "/news/region/" + region)
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<NewsArticle>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.NEWS_LIST);
             }
             return null;
         }
     }
     
+    /**
+     * Search news, answering locally when possible
+     * The local full-text index (articles fetched so far) is tried first and works offline.
+     * Otherwise a query that extends an earlier one whose results weren't truncated is
+     * filtered from the search cache, so typing "oil pr" after "oil" doesn't hit the backend
+     */
     public List<NewsArticle> searchNews(String query, String countryCode, String region) throws IOException {
+        try {
+            List<NewsArticle> local = LocalSearchIndex.searchNews(query, countryCode, region, SEARCH_RESULT_LIMIT);
+            if (!local.isEmpty()) {
+                return local;
+            }
+        } catch (SQLException e) {
+            System.err.println("Local search failed, searching remotely: " + e.getMessage());
+        }
+        
+        List<NewsArticle> cached = searchCache.lookup(query, countryCode, region);
+        if (cached != null) {
+            return cached;
+        }
+        
+        List<NewsArticle> results = flights.execute(SingleFlight.key("news:search", query, countryCode, region),
+                () -> fetchSearchResults(query, countryCode, region));
+        if (results != null) {
+            searchCache.store(query, countryCode, region, results, results.size() < SEARCH_RESULT_LIMIT);
+            LocalSearchIndex.index(results);
+        }
+        return results;
+    }
+    
+    private List<NewsArticle> fetchSearchResults(String query, String countryCode, String region) throws IOException {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(AppConfig.API_BASE_URL + "/news/search").newBuilder();
         urlBuilder.addQueryParameter("q", query);
+        urlBuilder.addQueryParameter("limit", String.valueOf(SEARCH_RESULT_LIMIT));
         if (countryCode != null) urlBuilder.addQueryParameter("country", countryCode);
         if (region != null) urlBuilder.addQueryParameter("region", region);
         
@@ -336,10 +503,9 @@ public class ApiService {
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<NewsArticle>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.NEWS_LIST);
             }
             return null;
         }
@@ -356,7 +522,8 @@ public class ApiService {
                 .post(body)
                 .build();
         
-        client.newCall(request).execute().close();
+        LoadHandle.execute(client.newCall(request)).close();
+        cache.invalidate("news:personalized");
         
         // Save to SQLite
         if (currentUser != null) {
@@ -376,10 +543,9 @@ public class ApiService {
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<String>>(){}.getType();
-                List<String> tags = gson.fromJson(response.body().string(), listType);
+                List<String> tags = JsonResponses.read(gson, response, ModelTypes.STRING_LIST);
                 
                 // Save to SQLite for offline access
                 if (currentUser != null && tags != null) {
@@ -410,10 +576,38 @@ public class ApiService {
     
     // Legislation Endpoints
     public List<Legislation> getLegislationByTags(List<String> tags) throws IOException {
+        return getLegislationByTags(tags, DEFAULT_LIST_LIMIT);
+    }
+    
+    /**
+     * Same as {@link #getLegislationByTags(List)} but fetches at most {@code limit} rows (e.g. dashboard previews)
+     */
+    public List<Legislation> getLegislationByTags(List<String> tags, int limit) throws IOException {
+        return getLegislationByTags(tags, limit, null);
+    }
+    
+    /**
+     * Legislation matching any of the tags, at most {@code limit} rows
+     */
+    public List<Legislation> getLegislationByTags(List<String> tags, int limit,
+                                                  Consumer<List<Legislation>> onUpdate) throws IOException {
+        return read(SingleFlight.key("legislation", limit, tags), TAGGED_LIST_TTL_MS,
+                () -> fetchLegislationByTags(tags, limit), onUpdate);
+    }
+    
+    private List<Legislation> fetchLegislationByTags(List<String> tags, int limit) throws IOException {
+        if (LocalReplica.isReady(LocalReplica.Table.TAG, LocalReplica.Table.LEGISLATION)) {
+            try {
+                return LocalReplica.getLegislationByTags(tags, limit);
+            } catch (SQLException e) {
+                System.err.println("Local replica read failed, fetching remotely: " + e.getMessage());
+            }
+        }
+        
         // Try Supabase direct connection first
         if (AppConfig.isSupabaseConfigured()) {
             try {
-                return SupabaseClient.getInstance().getLegislationByTags(tags);
+                return SupabaseClient.getInstance().getLegislationByTags(tags, limit);
             } catch (Exception e) {
                 System.err.println("Supabase call failed, falling back to backend: " + e.getMessage());
             }
@@ -424,28 +618,31 @@ public class ApiService {
         RequestBody body = RequestBody.create(json, MediaType.get("application/json"));
         
         Request request = createRequestBuilder()
-                .url(AppConfig.API_BASE_URL + "/legislation/by-tags")
+                .url(AppConfig.API_BASE_URL + "/legislation/by-tags?limit=" + limit)
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<Legislation>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.LEGISLATION_LIST);
             }
             return null;
         }
     }
     
     public Legislation getLegislationById(Integer id) throws IOException {
+        return read(SingleFlight.key("legislation:id", id), TAGGED_LIST_TTL_MS, () -> fetchLegislationById(id), null);
+    }
+    
+    private Legislation fetchLegislationById(Integer id) throws IOException {
         Request request = createRequestBuilder()
                 .url(AppConfig.API_BASE_URL + "/legislation/" + id)
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                return gson.fromJson(response.body().string(), Legislation.class);
+                return JsonResponses.read(gson, response, Legislation.class);
             }
             return null;
         }
@@ -453,10 +650,39 @@ public class ApiService {
     
     // Committee Hearings Endpoints
     public List<CommitteeMaterial> getHearingsByTags(List<String> tags) throws IOException {
+        return getHearingsByTags(tags, DEFAULT_LIST_LIMIT);
+    }
+    
+    /**
+     * Same as {@link #getHearingsByTags(List)} but fetches at most {@code limit} rows (e.g. dashboard previews)
+     */
+    public List<CommitteeMaterial> getHearingsByTags(List<String> tags, int limit) throws IOException {
+        return getHearingsByTags(tags, limit, null);
+    }
+    
+    /**
+     * Hearings matching any of the tags, at most {@code limit} rows
+     */
+    public List<CommitteeMaterial> getHearingsByTags(List<String> tags, int limit,
+                                                     Consumer<List<CommitteeMaterial>> onUpdate) throws IOException {
+        return read(SingleFlight.key("hearings", limit, tags), TAGGED_LIST_TTL_MS,
+                () -> fetchHearingsByTags(tags, limit), onUpdate);
+    }
+    
+    private List<CommitteeMaterial> fetchHearingsByTags(List<String> tags, int limit) throws IOException {
+        if (LocalReplica.isReady(LocalReplica.Table.TAG, LocalReplica.Table.COMMITTEES,
+                LocalReplica.Table.LEGISLATION, LocalReplica.Table.COMMITTEE_MATERIALS)) {
+            try {
+                return LocalReplica.getHearingsByTags(tags, limit);
+            } catch (SQLException e) {
+                System.err.println("Local replica read failed, fetching remotely: " + e.getMessage());
+            }
+        }
+        
         // Try Supabase direct connection first
         if (AppConfig.isSupabaseConfigured()) {
             try {
-                return SupabaseClient.getInstance().getHearingsByTags(tags);
+                return SupabaseClient.getInstance().getHearingsByTags(tags, limit);
             } catch (Exception e) {
                 System.err.println("Supabase hearings call failed, falling back to backend: " + e.getMessage());
             }
@@ -466,14 +692,13 @@ public class ApiService {
         RequestBody body = RequestBody.create(json, MediaType.get("application/json"));
         
         Request request = createRequestBuilder()
-                .url(AppConfig.API_BASE_URL + "/hearings/by-tags")
+                .url(AppConfig.API_BASE_URL + "/hearings/by-tags?limit=" + limit)
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<CommitteeMaterial>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.HEARING_LIST);
             }
             return null;
         }
@@ -481,10 +706,38 @@ public class ApiService {
     
     // Nominations Endpoints
     public List<Nomination> getNominationsByTags(List<String> tags) throws IOException {
+        return getNominationsByTags(tags, DEFAULT_LIST_LIMIT);
+    }
+    
+    /**
+     * Same as {@link #getNominationsByTags(List)} but fetches at most {@code limit} rows (e.g. dashboard previews)
+     */
+    public List<Nomination> getNominationsByTags(List<String> tags, int limit) throws IOException {
+        return getNominationsByTags(tags, limit, null);
+    }
+    
+    /**
+     * Nominations matching any of the tags, at most {@code limit} rows
+     */
+    public List<Nomination> getNominationsByTags(List<String> tags, int limit,
+                                                 Consumer<List<Nomination>> onUpdate) throws IOException {
+        return read(SingleFlight.key("nominations", limit, tags), TAGGED_LIST_TTL_MS,
+                () -> fetchNominationsByTags(tags, limit), onUpdate);
+    }
+    
+    private List<Nomination> fetchNominationsByTags(List<String> tags, int limit) throws IOException {
+        if (LocalReplica.isReady(LocalReplica.Table.TAG, LocalReplica.Table.NOMINATIONS)) {
+            try {
+                return LocalReplica.getNominationsByTags(tags, limit);
+            } catch (SQLException e) {
+                System.err.println("Local replica read failed, fetching remotely: " + e.getMessage());
+            }
+        }
+        
         // Try Supabase direct connection first
         if (AppConfig.isSupabaseConfigured()) {
             try {
-                return SupabaseClient.getInstance().getNominationsByTags(tags);
+                return SupabaseClient.getInstance().getNominationsByTags(tags, limit);
             } catch (Exception e) {
                 System.err.println("Supabase nominations call failed, falling back to backend: " + e.getMessage());
             }
@@ -494,14 +747,13 @@ public class ApiService {
         RequestBody body = RequestBody.create(json, MediaType.get("application/json"));
         
         Request request = createRequestBuilder()
-                .url(AppConfig.API_BASE_URL + "/nominations/by-tags")
+                .url(AppConfig.API_BASE_URL + "/nominations/by-tags?limit=" + limit)
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<Nomination>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.NOMINATION_LIST);
             }
             return null;
         }
@@ -509,6 +761,25 @@ public class ApiService {
     
     // Committees Endpoints
     public List<Committee> getCommitteesByTags(List<String> tags) throws IOException {
+        return getCommitteesByTags(tags, null);
+    }
+    
+    /**
+     * Committees matching any of the tags
+     */
+    public List<Committee> getCommitteesByTags(List<String> tags, Consumer<List<Committee>> onUpdate) throws IOException {
+        return read(SingleFlight.key("committees", tags), TAGGED_LIST_TTL_MS, () -> fetchCommitteesByTags(tags), onUpdate);
+    }
+    
+    private List<Committee> fetchCommitteesByTags(List<String> tags) throws IOException {
+        if (LocalReplica.isReady(LocalReplica.Table.TAG, LocalReplica.Table.COMMITTEES)) {
+            try {
+                return LocalReplica.getCommitteesByTags(tags);
+            } catch (SQLException e) {
+                System.err.println("Local replica read failed, fetching remotely: " + e.getMessage());
+            }
+        }
+        
         // Try Supabase direct connection first
         if (AppConfig.isSupabaseConfigured()) {
             try {
@@ -526,10 +797,9 @@ public class ApiService {
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<Committee>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.COMMITTEE_LIST);
             }
             return null;
         }
@@ -537,6 +807,10 @@ public class ApiService {
     
     // Treaties Endpoints
     public List<Treaty> getTreatiesByTags(List<String> tags) throws IOException {
+        return read(SingleFlight.key("treaties", tags), TAGGED_LIST_TTL_MS, () -> fetchTreatiesByTags(tags), null);
+    }
+    
+    private List<Treaty> fetchTreatiesByTags(List<String> tags) throws IOException {
         String json = gson.toJson(tags);
         RequestBody body = RequestBody.create(json, MediaType.get("application/json"));
         
@@ -545,10 +819,9 @@ public class ApiService {
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<Treaty>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return JsonResponses.read(gson, response, ModelTypes.TREATY_LIST);
             }
             return null;
         }
@@ -556,6 +829,10 @@ public class ApiService {
     
     // Research Reports Endpoints
     public List<ResearchReport> getResearchReportsByTags(List<String> tags) throws IOException {
+        return read(SingleFlight.key("research", tags), TAGGED_LIST_TTL_MS, () -> fetchResearchReportsByTags(tags), null);
+    }
+    
+    private List<ResearchReport> fetchResearchReportsByTags(List<String> tags) throws IOException {
         String json = gson.toJson(tags);
         RequestBody body = RequestBody.create(json, MediaType.get("application/json"));
         
@@ -564,10 +841,59 @@ public class ApiService {
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
+            if (response.isSuccessful() && response.body() != null) {
+                return JsonResponses.read(gson, response, ModelTypes.RESEARCH_REPORT_LIST);
+            }
+            return null;
+        }
+    }
+    
+    // Dashboard Bundle
+    /**
+     * Fetch stats and every dashboard section in one request
+     * Tries the Supabase dashboard_bundle RPC first, then the backend /dashboard/bundle route
+     * @return The bundle, or null if neither batched path is available
+     */
+    public DashboardBundle getDashboardBundle(List<String> tags) throws IOException {
+        return getDashboardBundle(tags, null);
+    }
+    
+    /**
+     * Stats and every dashboard section for the tags in one request
+     */
+    public DashboardBundle getDashboardBundle(List<String> tags, Consumer<DashboardBundle> onUpdate) throws IOException {
+        return read(SingleFlight.key("dashboard:bundle", tags), DASHBOARD_TTL_MS, () -> fetchDashboardBundle(tags), onUpdate);
+    }
+    
+    private DashboardBundle fetchDashboardBundle(List<String> tags) throws IOException {
+        if (AppConfig.isSupabaseConfigured()) {
+            try {
+                DashboardBundle bundle = SupabaseClient.getInstance().getDashboardBundle(tags);
+                if (bundle != null) return bundle;
+            } catch (Exception e) {
+                System.err.println("Supabase bundle call failed, falling back to backend: " + e.getMessage());
+            }
+        }
+        
+        if (!bundleRouteAvailable) return null;
+        
+        String json = gson.toJson(tags);
+        RequestBody body = RequestBody.create(json, MediaType.get("application/json"));
+        
+        Request request = createRequestBuilder()
+                .url(AppConfig.API_BASE_URL + "/dashboard/bundle")
+                .post(body)
+                .build();
+        
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<ResearchReport>>(){}.getType();
-                return gson.fromJson(response.body().string(), listType);
+                return DashboardBundleReader.read(gson, response.body().charStream());
+            }
+            if (response.code() == 404) {
+                // Route not deployed — don't ask again this session
+                System.out.println("  Backend /dashboard/bundle not available, using per-section queries");
+                bundleRouteAvailable = false;
             }
             return null;
         }
@@ -575,6 +901,28 @@ public class ApiService {
     
     // Dashboard Statistics
     public DashboardStats getDashboardStats(List<String> tags) throws IOException {
+        return getDashboardStats(tags, null);
+    }
+    
+    /**
+     * Dashboard totals for the tags
+     */
+    public DashboardStats getDashboardStats(List<String> tags, Consumer<DashboardStats> onUpdate) throws IOException {
+        return read(SingleFlight.key("dashboard:stats", tags), DASHBOARD_TTL_MS, () -> fetchDashboardStats(tags), onUpdate);
+    }
+    
+    private DashboardStats fetchDashboardStats(List<String> tags) throws IOException {
+        // Counted server-side by Supabase without downloading rows
+        if (AppConfig.isSupabaseConfigured()) {
+            try {
+                return SupabaseClient.getInstance().getDashboardStats(tags);
+            } catch (LoadHandle.LoadCancelledException e) {
+                throw e;
+            } catch (Exception e) {
+                System.err.println("Supabase stats call failed, falling back to backend: " + e.getMessage());
+            }
+        }
+        
         String json = gson.toJson(tags);
         RequestBody body = RequestBody.create(json, MediaType.get("application/json"));
         
@@ -583,9 +931,9 @@ public class ApiService {
                 .post(body)
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                return gson.fromJson(response.body().string(), DashboardStats.class);
+                return JsonResponses.read(gson, response, DashboardStats.class);
             }
             return null;
         }
@@ -0,0 +1,261 @@
+package com.orwel.service;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reflection-free Gson adapter for a model class
+ * Fields are bound once through getter/setter method references, and JSON names are
+ * resolved with a single hash lookup (camelCase and snake_case are both accepted)
+ */
+class BeanAdapter<T> extends TypeAdapter<T> {
+    static final TypeAdapter<String> STRING = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, String value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public String read(JsonReader in) throws IOException {
+            JsonToken token = in.peek();
+            if (token == JsonToken.NULL) { in.nextNull(); return null; }
+            if (token == JsonToken.BOOLEAN) return Boolean.toString(in.nextBoolean());
+            return in.nextString();
+        }
+    };
+
+    static final TypeAdapter<Integer> INTEGER = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, Integer value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public Integer read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }
+            return in.nextInt();
+        }
+    };
+
+    static final TypeAdapter<Long> LONG = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, Long value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public Long read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }
+            return in.nextLong();
+        }
+    };
+
+    static final TypeAdapter<Double> DOUBLE = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, Double value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public Double read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }
+            return in.nextDouble();
+        }
+    };
+
+    static final TypeAdapter<Boolean> BOOLEAN = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, Boolean value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public Boolean read(JsonReader in) throws IOException {
+            JsonToken token = in.peek();
+            if (token == JsonToken.NULL) { in.nextNull(); return null; }
+            if (token == JsonToken.STRING) return Boolean.parseBoolean(in.nextString());
+            if (token == JsonToken.NUMBER) return in.nextInt() != 0;
+            return in.nextBoolean();
+        }
+    };
+
+    static final TypeAdapter<List<String>> STRING_LIST = listOf(STRING);
+
+    static final TypeAdapter<String[]> STRING_ARRAY = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, String[] value) throws IOException {
+            if (value == null) { out.nullValue(); return; }
+            out.beginArray();
+            for (String s : value) out.value(s);
+            out.endArray();
+        }
+
+        @Override
+        public String[] read(JsonReader in) throws IOException {
+            List<String> list = STRING_LIST.read(in);
+            return list != null ? list.toArray(new String[0]) : null;
+        }
+    };
+
+    /**
+     * Adapter for a JSON array of elements handled by another adapter
+     */
+    static <E> TypeAdapter<List<E>> listOf(TypeAdapter<E> elementAdapter) {
+        return new TypeAdapter<>() {
+            @Override
+            public void write(JsonWriter out, List<E> value) throws IOException {
+                if (value == null) { out.nullValue(); return; }
+                out.beginArray();
+                for (E element : value) elementAdapter.write(out, element);
+                out.endArray();
+            }
+
+            @Override
+            public List<E> read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }
+                List<E> list = new ArrayList<>();
+                in.beginArray();
+                while (in.hasNext()) list.add(elementAdapter.read(in));
+                in.endArray();
+                return list;
+            }
+        };
+    }
+
+    private final Supplier<T> constructor;
+    private final boolean snakeCase;
+    private final Map<String, Binding<T, ?>> bindingsByName = new HashMap<>();
+    private final List<Binding<T, ?>> writeOrder = new ArrayList<>();
+
+    /**
+     * @param constructor Creates an empty instance
+     * @param snakeCase Write snake_case names (Supabase) instead of camelCase (backend)
+     */
+    BeanAdapter(Supplier<T> constructor, boolean snakeCase) {
+        this.constructor = constructor;
+        this.snakeCase = snakeCase;
+    }
+
+    /**
+     * Bind a field; it is read under both its camelCase and snake_case name
+     */
+    <V> BeanAdapter<T> field(String name, TypeAdapter<V> adapter, Function<T, V> getter, BiConsumer<T, V> setter) {
+        Binding<T, V> binding = new Binding<>(snakeCase ? toSnakeCase(name) : name, adapter, getter, setter);
+        bindingsByName.put(name, binding);
+        bindingsByName.put(toSnakeCase(name), binding);
+        if (getter != null) {
+            writeOrder.add(binding);
+        }
+        return this;
+    }
+
+    /**
+     * Bind a read-only alias (accepted when decoding, never written)
+     */
+    <V> BeanAdapter<T> alias(String name, TypeAdapter<V> adapter, BiConsumer<T, V> setter) {
+        return field(name, adapter, null, setter);
+    }
+
+    BeanAdapter<T> string(String name, Function<T, String> getter, BiConsumer<T, String> setter) {
+        return field(name, STRING, getter, setter);
+    }
+
+    BeanAdapter<T> integer(String name, Function<T, Integer> getter, BiConsumer<T, Integer> setter) {
+        return field(name, INTEGER, getter, setter);
+    }
+
+    BeanAdapter<T> longValue(String name, Function<T, Long> getter, BiConsumer<T, Long> setter) {
+        return field(name, LONG, getter, setter);
+    }
+
+    BeanAdapter<T> doubleValue(String name, Function<T, Double> getter, BiConsumer<T, Double> setter) {
+        return field(name, DOUBLE, getter, setter);
+    }
+
+    BeanAdapter<T> bool(String name, Function<T, Boolean> getter, BiConsumer<T, Boolean> setter) {
+        return field(name, BOOLEAN, getter, setter);
+    }
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        for (Binding<T, ?> binding : writeOrder) {
+            binding.write(out, value);
+        }
+        out.endObject();
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        T instance = constructor.get();
+        in.beginObject();
+        while (in.hasNext()) {
+            Binding<T, ?> binding = bindingsByName.get(in.nextName());
+            if (binding == null) {
+                in.skipValue();
+            } else {
+                binding.read(in, instance);
+            }
+        }
+        in.endObject();
+        return instance;
+    }
+
+    static String toSnakeCase(String camelCase) {
+        StringBuilder sb = new StringBuilder(camelCase.length() + 4);
+        for (int i = 0; i < camelCase.length(); i++) {
+            char c = camelCase.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                sb.append('_');
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    private static class Binding<T, V> {
+        private final String jsonName;
+        private final TypeAdapter<V> adapter;
+        private final Function<T, V> getter;
+        private final BiConsumer<T, V> setter;
+
+        Binding(String jsonName, TypeAdapter<V> adapter, Function<T, V> getter, BiConsumer<T, V> setter) {
+            this.jsonName = jsonName;
+            this.adapter = adapter;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        void read(JsonReader in, T target) throws IOException {
+            setter.accept(target, adapter.read(in));
+        }
+
+        void write(JsonWriter out, T source) throws IOException {
+            V value = getter.apply(source);
+            if (value == null && !out.getSerializeNulls()) {
+                return;
+            }
+            out.name(jsonName);
+            adapter.write(out, value);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.orwel.service;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.orwel.model.DashboardBundle;
+import com.orwel.model.DashboardStats;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Decodes a dashboard bundle response in a single streaming pass
+ * Each section is bound directly from the reader without building an intermediate tree
+ */
+class DashboardBundleReader {
+    /**
+     * Read a bundle object; keys may be camelCase (backend) or snake_case (Supabase RPC)
+     */
+    static DashboardBundle read(Gson gson, Reader body) throws IOException {
+        DashboardBundle bundle = new DashboardBundle();
+        try (JsonReader reader = new JsonReader(body)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "stats" -> bundle.setStats(gson.fromJson(reader, DashboardStats.class));
+                    case "legislation" -> bundle.setLegislation(gson.fromJson(reader, ModelTypes.LEGISLATION_LIST));
+                    case "hearings" -> bundle.setHearings(gson.fromJson(reader, ModelTypes.HEARING_LIST));
+                    case "nominations" -> bundle.setNominations(gson.fromJson(reader, ModelTypes.NOMINATION_LIST));
+                    case "committees" -> bundle.setCommittees(gson.fromJson(reader, ModelTypes.COMMITTEE_LIST));
+                    case "treaties" -> bundle.setTreaties(gson.fromJson(reader, ModelTypes.TREATY_LIST));
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        // Derive totals from the lists when the server didn't send stats
+        if (bundle.getStats() == null) {
+            DashboardStats stats = new DashboardStats();
+            stats.setTotalLegislation(sizeOf(bundle.getLegislation()));
+            stats.setTotalHearings(sizeOf(bundle.getHearings()));
+            stats.setTotalNominations(sizeOf(bundle.getNominations()));
+            stats.setTotalCommittees(sizeOf(bundle.getCommittees()));
+            stats.setTotalTreaties(sizeOf(bundle.getTreaties()));
+            bundle.setStats(stats);
+        }
+        return bundle;
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+}
@@ -0,0 +1,121 @@
+package com.orwel.service;
+
+import com.orwel.config.DatabaseConfig;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Central factory for OkHttp clients
+ * All services derive their client from one base client so they share a single
+ * connection pool, dispatcher and thread pool (and therefore warm TLS connections)
+ */
+public class HttpClientFactory {
+    // Connection pool: idle sockets kept warm across screens
+    private static final int MAX_IDLE_CONNECTIONS = 8;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+
+    // Dispatcher limits; they only apply to enqueue()d calls (the dashboard count fan-out in
+    // SupabaseClient). Most requests are synchronous execute() calls, which the dispatcher doesn't
+    // queue: their concurrency is bounded by the threads making them (TaskScheduler, DashboardLoader)
+    private static final int MAX_REQUESTS = 32;
+    private static final int MAX_REQUESTS_PER_HOST = 6;
+
+    // HTTP/2 keep-alive pings so multiplexed Supabase connections aren't dropped by proxies
+    private static final long PING_INTERVAL_SECONDS = 30;
+
+    // On-disk HTTP cache next to the SQLite database (~/.orwel/http-cache)
+    private static final String CACHE_DIR_NAME = "http-cache";
+    private static final long CACHE_MAX_BYTES = 50L * 1024 * 1024;
+
+    // PostgREST sends no cache headers; its GET responses are kept this long before refetching
+    private static final String POSTGREST_PATH_PREFIX = "/rest/v1/";
+    private static final int POSTGREST_MAX_AGE_SECONDS = 30;
+
+    private static final OkHttpClient baseClient = createBaseClient();
+
+    private static OkHttpClient createBaseClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                // HTTP/2 is negotiated via ALPN on TLS hosts (Supabase); plain HTTP backends fall back to 1.1
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .pingInterval(PING_INTERVAL_SECONDS, TimeUnit.SECONDS)
+                .retryOnConnectionFailure(true)
+                // Honors Cache-Control and revalidates with If-None-Match / If-Modified-Since,
+                // so unchanged responses come back as a bodiless 304
+                .cache(new Cache(new File(DatabaseConfig.getDataDirectory(), CACHE_DIR_NAME), CACHE_MAX_BYTES))
+                .addNetworkInterceptor(HttpClientFactory::applyPostgrestCachePolicy)
+                .build();
+    }
+
+    /**
+     * Give cacheable PostgREST reads a short local max-age when the server sent no caching headers
+     * Responses that carry their own Cache-Control, ETag or Last-Modified are left untouched
+     */
+    private static Response applyPostgrestCachePolicy(Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+        if (!"GET".equals(request.method())
+                || !request.url().encodedPath().startsWith(POSTGREST_PATH_PREFIX)
+                || !response.isSuccessful()
+                || response.header("Cache-Control") != null
+                || response.header("ETag") != null
+                || response.header("Last-Modified") != null) {
+            return response;
+        }
+        return response.newBuilder()
+                .removeHeader("Pragma")
+                .header("Cache-Control", "private, max-age=" + POSTGREST_MAX_AGE_SECONDS)
+                .build();
+    }
+
+    /**
+     * Get the shared base client
+     */
+    public static OkHttpClient getBaseClient() {
+        return baseClient;
+    }
+
+    /**
+     * Create a client with service-specific timeouts
+     * The returned client shares the base client's connection pool and dispatcher
+     */
+    public static OkHttpClient newClient(long connectTimeoutSeconds, long readTimeoutSeconds, long writeTimeoutSeconds) {
+        return baseClient.newBuilder()
+                .connectTimeout(connectTimeoutSeconds, TimeUnit.SECONDS)
+                .readTimeout(readTimeoutSeconds, TimeUnit.SECONDS)
+                .writeTimeout(writeTimeoutSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Release idle connections, stop dispatcher threads and flush the disk cache (call on application exit)
+     */
+    public static void shutdown() {
+        baseClient.dispatcher().executorService().shutdown();
+        baseClient.connectionPool().evictAll();
+        Cache cache = baseClient.cache();
+        if (cache != null) {
+            try {
+                cache.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close HTTP cache: " + e.getMessage());
+            }
+        }
+    }
+}
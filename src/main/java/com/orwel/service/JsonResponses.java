@@ -0,0 +1,91 @@
+package com.orwel.service;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Decodes OkHttp response bodies straight from the socket stream
+ * Avoids buffering the whole payload as a String, and lets array payloads
+ * be consumed element by element while the rest is still arriving
+ */
+public class JsonResponses {
+    private static final int DEFAULT_BATCH_SIZE = 25;
+
+    /**
+     * Decode the whole body as the given type
+     * @return The decoded value, or null for an empty body
+     */
+    public static <T> T read(Gson gson, Response response, Type type) throws IOException {
+        ResponseBody body = response.body();
+        if (body == null) return null;
+        try {
+            JsonReader reader = new JsonReader(body.charStream());
+            return gson.fromJson(reader, type);
+        } catch (JsonParseException e) {
+            throw new IOException("Malformed JSON response: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decode the whole body as the given class
+     */
+    public static <T> T read(Gson gson, Response response, Class<T> type) throws IOException {
+        return read(gson, response, (Type) type);
+    }
+
+    /**
+     * Decode a JSON array incrementally, handing elements over in batches as they are parsed
+     * @param elementType Type of a single array element
+     * @param onBatch Called on the calling thread with each batch of decoded elements
+     * @return All decoded elements
+     */
+    public static <T> List<T> readArray(Gson gson, Response response, Type elementType,
+                                        Consumer<List<T>> onBatch) throws IOException {
+        return readArray(gson, response, elementType, DEFAULT_BATCH_SIZE, onBatch);
+    }
+
+    /**
+     * Decode a JSON array incrementally with a custom batch size
+     */
+    public static <T> List<T> readArray(Gson gson, Response response, Type elementType, int batchSize,
+                                        Consumer<List<T>> onBatch) throws IOException {
+        List<T> all = new ArrayList<>();
+        ResponseBody body = response.body();
+        if (body == null) return all;
+
+        try (JsonReader reader = new JsonReader(body.charStream())) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return all;
+            }
+            reader.beginArray();
+            List<T> batch = new ArrayList<>(batchSize);
+            while (reader.hasNext()) {
+                T element = gson.fromJson(reader, elementType);
+                all.add(element);
+                batch.add(element);
+                if (batch.size() >= batchSize) {
+                    onBatch.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            reader.endArray();
+            if (!batch.isEmpty()) {
+                onBatch.accept(batch);
+            }
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IOException("Malformed JSON response: " + e.getMessage(), e);
+        }
+        return all;
+    }
+}
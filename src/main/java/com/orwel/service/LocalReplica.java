@@ -0,0 +1,349 @@
+package com.orwel.service;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.orwel.config.DatabaseConfig;
+import com.orwel.model.Committee;
+import com.orwel.model.CommitteeMaterial;
+import com.orwel.model.Legislation;
+import com.orwel.model.Nomination;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Local SQLite mirror of the Supabase tables behind the *ByTags screens
+ * Each replica table stores rows as received (JSON) next to the columns used for filtering
+ * and ordering. sync_state records each table's watermark and whether a full pass has
+ * completed; only then are reads served from the replica. Kept current by {@link ReplicaSync}
+ */
+public class LocalReplica {
+    private static final Gson gson = ModelAdapters.createGson(true);
+    private static final Set<Table> readyTables = EnumSet.noneOf(Table.class);
+    private static volatile boolean initialized = false;
+
+    /**
+     * Mirrored tables: remote name, primary key and the extra columns kept for queries
+     */
+    public enum Table {
+        TAG("tag", "tag_id", "tag_name TEXT"),
+        LEGISLATION("legislation", "leg_id", "tag_id INTEGER", "date_introduced TEXT"),
+        COMMITTEES("committees", "com_id", "tag_id INTEGER"),
+        COMMITTEE_MATERIALS("committee_materials", "mat_id", "com_id INTEGER", "leg_id INTEGER", "event_date TEXT"),
+        NOMINATIONS("nominations", "nom_id", "tag_id INTEGER", "date_received TEXT");
+
+        private final String remoteName;
+        private final String idColumn;
+        private final String[] columnDefinitions;
+
+        Table(String remoteName, String idColumn, String... columnDefinitions) {
+            this.remoteName = remoteName;
+            this.idColumn = idColumn;
+            this.columnDefinitions = columnDefinitions;
+        }
+
+        public String getRemoteName() { return remoteName; }
+        public String getIdColumn() { return idColumn; }
+
+        String replicaName() {
+            return "replica_" + remoteName;
+        }
+
+        List<String> columns() {
+            List<String> names = new ArrayList<>();
+            for (String definition : columnDefinitions) {
+                names.add(definition.substring(0, definition.indexOf(' ')));
+            }
+            return names;
+        }
+    }
+
+    /**
+     * How changed rows are found: by updated_at (catches edits) or, for tables without it, by id (new rows only)
+     */
+    public enum WatermarkMode { UPDATED_AT, ID }
+
+    /**
+     * Sync progress of one table
+     */
+    public static class SyncState {
+        private WatermarkMode mode = WatermarkMode.UPDATED_AT;
+        private String updatedAt;
+        private Long lastId;
+        private Long completedAt;
+
+        public WatermarkMode getMode() { return mode; }
+        public void setMode(WatermarkMode mode) { this.mode = mode; }
+
+        /** updated_at of the last row synced (UPDATED_AT mode) */
+        public String getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(String updatedAt) { this.updatedAt = updatedAt; }
+
+        /** Id of the last row synced; the tie-breaker in UPDATED_AT mode */
+        public Long getLastId() { return lastId; }
+        public void setLastId(Long lastId) { this.lastId = lastId; }
+
+        /** When a pass last reached the end of the table, null if none has yet */
+        public Long getCompletedAt() { return completedAt; }
+        public void setCompletedAt(Long completedAt) { this.completedAt = completedAt; }
+    }
+
+    /**
+     * Create the replica and sync_state tables if they don't exist
+     */
+    public static synchronized void initialize(Connection conn) throws SQLException {
+        if (initialized) return;
+
+        String createSyncStateTable = """
+            CREATE TABLE IF NOT EXISTS sync_state (
+                table_name TEXT PRIMARY KEY,
+                mode TEXT NOT NULL,
+                updated_at TEXT,
+                last_id INTEGER,
+                completed_at INTEGER
+            )
+        """;
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(createSyncStateTable);
+            for (Table table : Table.values()) {
+                stmt.execute("CREATE TABLE IF NOT EXISTS " + table.replicaName() + " ("
+                        + table.idColumn + " INTEGER PRIMARY KEY, "
+                        + String.join(", ", table.columnDefinitions) + ", "
+                        + "updated_at TEXT, payload TEXT NOT NULL)");
+                for (String column : table.columns()) {
+                    if (column.endsWith("_id") || column.equals("tag_name")) {
+                        stmt.execute("CREATE INDEX IF NOT EXISTS idx_" + table.replicaName() + "_" + column
+                                + " ON " + table.replicaName() + "(" + column + ")");
+                    }
+                }
+            }
+
+            try (ResultSet rs = stmt.executeQuery("SELECT table_name FROM sync_state WHERE completed_at IS NOT NULL")) {
+                while (rs.next()) {
+                    for (Table table : Table.values()) {
+                        if (table.remoteName.equals(rs.getString("table_name"))) readyTables.add(table);
+                    }
+                }
+            }
+        }
+        initialized = true;
+    }
+
+    /**
+     * Create the tables if {@link UserDatabase} hasn't yet
+     */
+    static void ensureInitialized() throws SQLException {
+        if (initialized) return;
+        DatabaseConfig.write(conn -> {
+            initialize(conn);
+            return null;
+        });
+    }
+
+    /**
+     * Whether every given table has completed at least one full sync and can serve reads
+     */
+    public static boolean isReady(Table... tables) {
+        synchronized (LocalReplica.class) {
+            return readyTables.containsAll(Arrays.asList(tables));
+        }
+    }
+
+    public static SyncState getState(Table table) throws SQLException {
+        ensureInitialized();
+        SyncState state = new SyncState();
+
+        DatabaseConfig.read(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement("SELECT * FROM sync_state WHERE table_name = ?")) {
+                pstmt.setString(1, table.remoteName);
+                ResultSet rs = pstmt.executeQuery();
+                if (rs.next()) {
+                    state.setMode(WatermarkMode.valueOf(rs.getString("mode")));
+                    state.setUpdatedAt(rs.getString("updated_at"));
+                    long lastId = rs.getLong("last_id");
+                    state.setLastId(rs.wasNull() ? null : lastId);
+                    long completedAt = rs.getLong("completed_at");
+                    state.setCompletedAt(rs.wasNull() ? null : completedAt);
+                }
+            }
+            return null;
+        });
+        return state;
+    }
+
+    /**
+     * Upsert one page of rows and advance the table's watermark in a single transaction,
+     * so an interrupted sync resumes from the last page that was fully applied
+     */
+    public static void applyPage(Table table, List<JsonObject> rows, SyncState state) throws SQLException {
+        ensureInitialized();
+
+        List<String> columns = new ArrayList<>();
+        columns.add(table.idColumn);
+        columns.addAll(table.columns());
+        columns.add("updated_at");
+        String sql = "INSERT OR REPLACE INTO " + table.replicaName() + " (" + String.join(", ", columns) + ", payload) "
+                + "VALUES (" + "?, ".repeat(columns.size()) + "?)";
+
+        DatabaseConfig.transaction(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (JsonObject row : rows) {
+                    int i = 1;
+                    for (String column : columns) {
+                        bind(pstmt, i++, row.get(column));
+                    }
+                    pstmt.setString(i, row.toString());
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+            saveState(conn, table, state);
+            return null;
+        });
+
+        if (state.getCompletedAt() != null) {
+            synchronized (LocalReplica.class) {
+                readyTables.add(table);
+            }
+        }
+    }
+
+    /**
+     * Persist a state change that comes without rows (e.g. switching watermark mode)
+     */
+    public static void saveState(Table table, SyncState state) throws SQLException {
+        ensureInitialized();
+        DatabaseConfig.write(conn -> {
+            saveState(conn, table, state);
+            return null;
+        });
+    }
+
+    // ─── Reads (same filters and ordering as the SupabaseClient queries) ───
+
+    public static List<Legislation> getLegislationByTags(List<String> tags, int limit) throws SQLException {
+        String sql = "SELECT l.payload FROM replica_legislation l"
+                + " JOIN replica_tag t ON t.tag_id = l.tag_id"
+                + " WHERE t.tag_name IN (" + placeholders(tags) + ")"
+                + " ORDER BY l.date_introduced DESC LIMIT ?";
+        return query(sql, tags, limit, Legislation.class);
+    }
+
+    public static List<Committee> getCommitteesByTags(List<String> tags) throws SQLException {
+        String sql = "SELECT c.payload FROM replica_committees c"
+                + " JOIN replica_tag t ON t.tag_id = c.tag_id"
+                + " WHERE t.tag_name IN (" + placeholders(tags) + ")";
+        return query(sql, tags, null, Committee.class);
+    }
+
+    /**
+     * Materials of committees with these tags, or failing that, materials on legislation with these tags
+     */
+    public static List<CommitteeMaterial> getHearingsByTags(List<String> tags, int limit) throws SQLException {
+        String viaCommittees = "SELECT m.payload FROM replica_committee_materials m"
+                + " WHERE m.com_id IN (SELECT c.com_id FROM replica_committees c"
+                + " JOIN replica_tag t ON t.tag_id = c.tag_id WHERE t.tag_name IN (" + placeholders(tags) + "))"
+                + " ORDER BY m.event_date DESC LIMIT ?";
+        List<CommitteeMaterial> hearings = query(viaCommittees, tags, limit, CommitteeMaterial.class);
+        if (!hearings.isEmpty()) return hearings;
+
+        String viaLegislation = "SELECT m.payload FROM replica_committee_materials m"
+                + " WHERE m.leg_id IN (SELECT l.leg_id FROM replica_legislation l"
+                + " JOIN replica_tag t ON t.tag_id = l.tag_id WHERE t.tag_name IN (" + placeholders(tags) + "))"
+                + " ORDER BY m.event_date DESC LIMIT ?";
+        return query(viaLegislation, tags, limit, CommitteeMaterial.class);
+    }
+
+    /**
+     * tag_name → tag_id for every replicated tag
+     */
+    public static Map<String, Integer> getTagIds() throws SQLException {
+        Map<String, Integer> tagIds = new HashMap<>();
+        DatabaseConfig.read(conn -> {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT tag_id, tag_name FROM replica_tag WHERE tag_name IS NOT NULL")) {
+                while (rs.next()) {
+                    tagIds.put(rs.getString("tag_name"), rs.getInt("tag_id"));
+                }
+            }
+            return null;
+        });
+        return tagIds;
+    }
+
+    public static List<Nomination> getNominationsByTags(List<String> tags, int limit) throws SQLException {
+        String sql = "SELECT n.payload FROM replica_nominations n"
+                + " JOIN replica_tag t ON t.tag_id = n.tag_id"
+                + " WHERE t.tag_name IN (" + placeholders(tags) + ")"
+                + " ORDER BY n.date_received DESC LIMIT ?";
+        return query(sql, tags, limit, Nomination.class);
+    }
+
+    private static <T> List<T> query(String sql, List<String> tags, Integer limit, Class<T> type) throws SQLException {
+        List<T> results = new ArrayList<>();
+        if (tags == null || tags.isEmpty()) return results;
+
+        DatabaseConfig.read(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                int i = 1;
+                for (String tag : tags) {
+                    pstmt.setString(i++, tag);
+                }
+                if (limit != null) {
+                    pstmt.setInt(i, limit);
+                }
+                ResultSet rs = pstmt.executeQuery();
+                while (rs.next()) {
+                    results.add(gson.fromJson(rs.getString("payload"), type));
+                }
+            }
+            return null;
+        });
+        return results;
+    }
+
+    private static void saveState(Connection conn, Table table, SyncState state) throws SQLException {
+        String sql = """
+            INSERT OR REPLACE INTO sync_state (table_name, mode, updated_at, last_id, completed_at)
+            VALUES (?, ?, ?, ?, ?)
+        """;
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, table.remoteName);
+            pstmt.setString(2, state.getMode().name());
+            pstmt.setString(3, state.getUpdatedAt());
+            if (state.getLastId() != null) pstmt.setLong(4, state.getLastId()); else pstmt.setNull(4, Types.INTEGER);
+            if (state.getCompletedAt() != null) pstmt.setLong(5, state.getCompletedAt()); else pstmt.setNull(5, Types.INTEGER);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static void bind(PreparedStatement pstmt, int index, JsonElement value) throws SQLException {
+        if (value == null || value.isJsonNull()) {
+            pstmt.setNull(index, Types.NULL);
+        } else if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+            pstmt.setLong(index, value.getAsLong());
+        } else if (value.isJsonPrimitive()) {
+            pstmt.setString(index, value.getAsString());
+        } else {
+            pstmt.setString(index, value.toString());
+        }
+    }
+
+    private static String placeholders(List<String> values) {
+        return values == null || values.isEmpty() ? "NULL" : "?, ".repeat(values.size() - 1) + "?";
+    }
+}
@@ -0,0 +1,372 @@
+package com.orwel.service;
+
+import com.google.gson.Gson;
+import com.orwel.config.DatabaseConfig;
+import com.orwel.model.CommitteeMaterial;
+import com.orwel.model.DashboardBundle;
+import com.orwel.model.Legislation;
+import com.orwel.model.NewsArticle;
+import com.orwel.model.Nomination;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local full-text index (SQLite FTS5) over the news, legislation, committee materials
+ * and nominations the app has received
+ * Documents are stored in search_documents and indexed by the external-content table
+ * search_fts, kept in sync by triggers. Searches are ranked with BM25 (title matches
+ * weigh more than body matches) and return a highlighted snippet, and work offline
+ */
+public class LocalSearchIndex {
+    /** Marks the start of a matched term in {@link Hit#getSnippet()} */
+    public static final String HIGHLIGHT_START = "\u0002";
+    /** Marks the end of a matched term in {@link Hit#getSnippet()} */
+    public static final String HIGHLIGHT_END = "\u0003";
+
+    private static final double TITLE_WEIGHT = 10.0;
+    private static final double BODY_WEIGHT = 1.0;
+    private static final int SNIPPET_TOKENS = 16;
+
+    private static final Gson gson = ModelAdapters.createGson(false);
+    // Writes are serialized on one thread so indexing never holds up a load
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "search-index-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile boolean available;
+
+    /**
+     * Kinds of indexed documents, with the model class their payload decodes to
+     */
+    public enum Kind {
+        NEWS(NewsArticle.class),
+        LEGISLATION(Legislation.class),
+        COMMITTEE_MATERIAL(CommitteeMaterial.class),
+        NOMINATION(Nomination.class);
+
+        private final Class<?> type;
+
+        Kind(Class<?> type) {
+            this.type = type;
+        }
+    }
+
+    /**
+     * Create the index tables and triggers if they don't exist
+     * If the SQLite build lacks FTS5 the index stays disabled and searches return nothing
+     */
+    public static void initialize(Connection conn) {
+        String createDocumentsTable = """
+            CREATE TABLE IF NOT EXISTS search_documents (
+                id INTEGER PRIMARY KEY,
+                doc_key TEXT UNIQUE NOT NULL,
+                kind TEXT NOT NULL,
+                title TEXT,
+                body TEXT,
+                country TEXT,
+                region TEXT,
+                payload TEXT NOT NULL,
+                indexed_at INTEGER NOT NULL
+            )
+        """;
+
+        String createFtsTable = """
+            CREATE VIRTUAL TABLE IF NOT EXISTS search_fts USING fts5(
+                title, body,
+                content = 'search_documents', content_rowid = 'id',
+                tokenize = 'unicode61 remove_diacritics 2',
+                prefix = '2 3'
+            )
+        """;
+
+        // Keep the FTS index in step with search_documents
+        String createInsertTrigger = """
+            CREATE TRIGGER IF NOT EXISTS search_documents_ai AFTER INSERT ON search_documents BEGIN
+                INSERT INTO search_fts (rowid, title, body) VALUES (new.id, new.title, new.body);
+            END
+        """;
+        String createDeleteTrigger = """
+            CREATE TRIGGER IF NOT EXISTS search_documents_ad AFTER DELETE ON search_documents BEGIN
+                INSERT INTO search_fts (search_fts, rowid, title, body) VALUES ('delete', old.id, old.title, old.body);
+            END
+        """;
+        String createUpdateTrigger = """
+            CREATE TRIGGER IF NOT EXISTS search_documents_au AFTER UPDATE ON search_documents BEGIN
+                INSERT INTO search_fts (search_fts, rowid, title, body) VALUES ('delete', old.id, old.title, old.body);
+                INSERT INTO search_fts (rowid, title, body) VALUES (new.id, new.title, new.body);
+            END
+        """;
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(createDocumentsTable);
+            stmt.execute(createFtsTable);
+            stmt.execute(createInsertTrigger);
+            stmt.execute(createDeleteTrigger);
+            stmt.execute(createUpdateTrigger);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_search_documents_kind ON search_documents(kind)");
+            available = true;
+        } catch (SQLException e) {
+            System.err.println("Local search index unavailable: " + e.getMessage());
+            available = false;
+        }
+    }
+
+    /**
+     * Whether the index was created and can be searched
+     */
+    public static boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Index whatever searchable documents a response contains, in the background
+     * Accepts single models, lists of them and {@link DashboardBundle}s; anything else is ignored
+     */
+    public static void index(Object received) {
+        if (!available || received == null) return;
+        List<Object> documents = new ArrayList<>();
+        collect(received, documents);
+        if (documents.isEmpty()) return;
+
+        writer.execute(() -> {
+            try {
+                upsert(documents);
+            } catch (SQLException e) {
+                System.err.println("Failed to index " + documents.size() + " documents: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Search the index
+     * @param query Free text; every word must match, the last one as a prefix (search as you type)
+     * @param country Only news for this country (null for any)
+     * @param region Only news for this region (null for any)
+     * @param limit Maximum number of hits
+     * @param kinds Kinds of documents to search (all kinds when empty)
+     * @return Hits ranked best first; empty when nothing matches or the index is unavailable
+     */
+    public static List<Hit> search(String query, String country, String region, int limit, Kind... kinds) throws SQLException {
+        List<Hit> hits = new ArrayList<>();
+        String match = toMatchExpression(query);
+        if (!available || match == null) return hits;
+
+        List<Kind> kindList = kinds.length == 0 ? Arrays.asList(Kind.values()) : Arrays.asList(kinds);
+        StringBuilder sql = new StringBuilder("""
+            SELECT d.kind, d.payload,
+                   snippet(search_fts, -1, ?, ?, '…', ?) AS snippet,
+                   bm25(search_fts, ?, ?) AS score
+            FROM search_fts
+            JOIN search_documents d ON d.id = search_fts.rowid
+            WHERE search_fts MATCH ?
+            """);
+        sql.append(" AND d.kind IN (").append("?,".repeat(kindList.size() - 1)).append("?)");
+        if (country != null) sql.append(" AND d.country = ? COLLATE NOCASE");
+        if (region != null) sql.append(" AND d.region = ? COLLATE NOCASE");
+        sql.append(" ORDER BY score LIMIT ?");
+
+        DatabaseConfig.read(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+                int i = 1;
+                pstmt.setString(i++, HIGHLIGHT_START);
+                pstmt.setString(i++, HIGHLIGHT_END);
+                pstmt.setInt(i++, SNIPPET_TOKENS);
+                pstmt.setDouble(i++, TITLE_WEIGHT);
+                pstmt.setDouble(i++, BODY_WEIGHT);
+                pstmt.setString(i++, match);
+                for (Kind kind : kindList) {
+                    pstmt.setString(i++, kind.name());
+                }
+                if (country != null) pstmt.setString(i++, country);
+                if (region != null) pstmt.setString(i++, region);
+                pstmt.setInt(i, limit);
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        Kind kind = Kind.valueOf(rs.getString("kind"));
+                        Object item = gson.fromJson(rs.getString("payload"), kind.type);
+                        // bm25() is lower for better matches; flip it so a higher score means more relevant
+                        hits.add(new Hit(kind, item, rs.getString("snippet"), -rs.getDouble("score")));
+                    }
+                }
+            }
+            return null;
+        });
+        return hits;
+    }
+
+    /**
+     * Search indexed news, ranked by relevance, with each article's snippet set
+     */
+    public static List<NewsArticle> searchNews(String query, String country, String region, int limit) throws SQLException {
+        List<NewsArticle> articles = new ArrayList<>();
+        for (Hit hit : search(query, country, region, limit, Kind.NEWS)) {
+            NewsArticle article = (NewsArticle) hit.getItem();
+            article.setSearchSnippet(hit.getSnippet());
+            articles.add(article);
+        }
+        return articles;
+    }
+
+    /**
+     * Build an FTS5 MATCH expression from user input
+     * Each word is quoted (so FTS syntax in the input is taken literally) and the last one
+     * is a prefix query; words are ANDed
+     * @return The expression, or null if the input has no searchable words
+     */
+    static String toMatchExpression(String query) {
+        if (query == null) return null;
+        String[] words = query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        StringBuilder match = new StringBuilder();
+        for (String word : words) {
+            if (word.isEmpty()) continue;
+            if (match.length() > 0) match.append(' ');
+            match.append('"').append(word).append('"');
+        }
+        if (match.length() == 0) return null;
+        return match.append('*').toString();
+    }
+
+    private static void collect(Object received, List<Object> documents) {
+        if (received instanceof Collection<?> items) {
+            for (Object item : items) {
+                collect(item, documents);
+            }
+        } else if (received instanceof DashboardBundle bundle) {
+            collect(bundle.getLegislation(), documents);
+            collect(bundle.getHearings(), documents);
+            collect(bundle.getNominations(), documents);
+        } else if (received instanceof NewsArticle || received instanceof Legislation
+                || received instanceof CommitteeMaterial || received instanceof Nomination) {
+            documents.add(received);
+        }
+    }
+
+    private static void upsert(List<Object> documents) throws SQLException {
+        // Unchanged documents are left alone, so re-fetching a list doesn't churn the FTS index
+        String sql = """
+            INSERT INTO search_documents (doc_key, kind, title, body, country, region, payload, indexed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT(doc_key) DO UPDATE SET
+                title = excluded.title,
+                body = excluded.body,
+                country = excluded.country,
+                region = excluded.region,
+                payload = excluded.payload,
+                indexed_at = excluded.indexed_at
+            WHERE payload IS NOT excluded.payload
+        """;
+
+        DatabaseConfig.transaction(conn -> {
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                long now = System.currentTimeMillis();
+                for (Object document : documents) {
+                    Document doc = toDocument(document);
+                    if (doc == null) continue;
+                    pstmt.setString(1, doc.kind.name() + ":" + doc.key);
+                    pstmt.setString(2, doc.kind.name());
+                    pstmt.setString(3, doc.title);
+                    pstmt.setString(4, doc.body);
+                    pstmt.setString(5, doc.country);
+                    pstmt.setString(6, doc.region);
+                    pstmt.setString(7, gson.toJson(document));
+                    pstmt.setLong(8, now);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Searchable text of a model, or null if it has no stable key
+     */
+    private static Document toDocument(Object item) {
+        if (item instanceof NewsArticle news) {
+            String key = news.getId() != null ? String.valueOf(news.getId()) : news.getUrl();
+            String tags = news.getTags() != null ? String.join(" ", news.getTags()) : null;
+            return key == null ? null : new Document(Kind.NEWS, key, news.getTitle(),
+                    join(news.getSummary(), news.getContent(), news.getSource(), news.getAuthor(), tags),
+                    news.getCountryCode(), news.getRegion());
+        }
+        if (item instanceof Legislation leg) {
+            return leg.getLegId() == null ? null : new Document(Kind.LEGISLATION, String.valueOf(leg.getLegId()),
+                    leg.getTitle(),
+                    join(leg.getRefCode(), leg.getSummary(), leg.getPolicyArea(), leg.getCurrentStatus()),
+                    null, null);
+        }
+        if (item instanceof CommitteeMaterial material) {
+            return material.getMatId() == null ? null : new Document(Kind.COMMITTEE_MATERIAL, String.valueOf(material.getMatId()),
+                    material.getTitle(),
+                    join(material.getMaterialType(), material.getOfficialRefNumber(), material.getOfficialSummary()),
+                    null, null);
+        }
+        if (item instanceof Nomination nomination) {
+            String nominee = nomination.getMember() != null ? nomination.getMember().getFullName() : null;
+            return nomination.getNomId() == null ? null : new Document(Kind.NOMINATION, String.valueOf(nomination.getNomId()),
+                    nomination.getPositionTitle(),
+                    join(nominee, nomination.getOfficialSummary(), nomination.getCurrentStatus()),
+                    null, null);
+        }
+        return null;
+    }
+
+    private static String join(String... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (String part : parts) {
+            if (part == null || part.isBlank()) continue;
+            if (sb.length() > 0) sb.append('\n');
+            sb.append(part);
+        }
+        return sb.toString();
+    }
+
+    private record Document(Kind kind, String key, String title, String body, String country, String region) {}
+
+    /**
+     * One search result
+     */
+    public static class Hit {
+        private final Kind kind;
+        private final Object item;
+        private final String snippet;
+        private final double score;
+
+        Hit(Kind kind, Object item, String snippet, double score) {
+            this.kind = kind;
+            this.item = item;
+            this.snippet = snippet;
+            this.score = score;
+        }
+
+        public Kind getKind() { return kind; }
+
+        /**
+         * The indexed model: a NewsArticle, Legislation, CommitteeMaterial or Nomination depending on the kind
+         */
+        public Object getItem() { return item; }
+
+        /**
+         * Matching excerpt with matched terms wrapped in {@link #HIGHLIGHT_START} / {@link #HIGHLIGHT_END}
+         */
+        public String getSnippet() { return snippet; }
+
+        /**
+         * Relevance (BM25); higher is better
+         */
+        public double getScore() { return score; }
+    }
+}
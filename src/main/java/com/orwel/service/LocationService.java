@@ -4,10 +4,10 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.orwel.config.AppConfig;
 import com.orwel.model.LocationInfo;
+import com.orwel.util.LoadHandle;
 import okhttp3.*;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 public class LocationService {
     private static final LocationService instance = new LocationService();
@@ -15,10 +15,7 @@ public class LocationService {
     private final Gson gson;
     
     private LocationService() {
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(30, TimeUnit.SECONDS)
-                .readTimeout(30, TimeUnit.SECONDS)
-                .build();
+        this.client = HttpClientFactory.newClient(30, 30, 10);
         this.gson = new Gson();
     }
     
@@ -64,9 +61,9 @@ public class LocationService {
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                JsonObject jsonResponse = gson.fromJson(response.body().string(), JsonObject.class);
+                JsonObject jsonResponse = JsonResponses.read(gson, response, JsonObject.class);
                 
                 if (jsonResponse.has("results") && jsonResponse.getAsJsonArray("results").size() > 0) {
                     JsonObject result = jsonResponse.getAsJsonArray("results").get(0).getAsJsonObject();
@@ -119,9 +116,9 @@ public class LocationService {
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                JsonObject jsonResponse = gson.fromJson(response.body().string(), JsonObject.class);
+                JsonObject jsonResponse = JsonResponses.read(gson, response, JsonObject.class);
                 
                 if (jsonResponse.has("results") && jsonResponse.getAsJsonArray("results").size() > 0) {
                     JsonObject result = jsonResponse.getAsJsonArray("results").get(0).getAsJsonObject();
@@ -171,12 +168,11 @@ public class LocationService {
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                String responseBody = response.body().string();
-                if (responseBody.startsWith("[") && responseBody.length() > 2) {
-                    JsonObject result = gson.fromJson(responseBody, com.google.gson.JsonArray.class)
-                            .get(0).getAsJsonObject();
+                com.google.gson.JsonArray results = JsonResponses.read(gson, response, com.google.gson.JsonArray.class);
+                if (results != null && results.size() > 0) {
+                    JsonObject result = results.get(0).getAsJsonObject();
                     
                     LocationInfo locationInfo = new LocationInfo();
                     locationInfo.setLatitude(Double.parseDouble(result.get("lat").getAsString()));
@@ -218,9 +214,9 @@ public class LocationService {
                 .get()
                 .build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                JsonObject result = gson.fromJson(response.body().string(), JsonObject.class);
+                JsonObject result = JsonResponses.read(gson, response, JsonObject.class);
                 
                 LocationInfo locationInfo = new LocationInfo();
                 locationInfo.setLatitude(latitude);
@@ -0,0 +1,339 @@
+package com.orwel.service;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.orwel.model.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Precompiled Gson adapters for every class in com.orwel.model
+ * Registered through a TypeAdapterFactory so Gson never falls back to its reflective
+ * adapter (or a FieldNamingPolicy lookup) when decoding API payloads
+ */
+public class ModelAdapters implements TypeAdapterFactory {
+    static final TypeAdapter<LocalDate> LOCAL_DATE = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, LocalDate value) throws IOException {
+            out.value(value != null ? value.toString() : null);
+        }
+
+        @Override
+        public LocalDate read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }
+            String s = in.nextString();
+            try {
+                // "yyyy-MM-dd", or the date part of a timestamp
+                return LocalDate.parse(s.length() > 10 ? s.substring(0, 10) : s);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    };
+
+    static final TypeAdapter<LocalDateTime> LOCAL_DATE_TIME = new TypeAdapter<>() {
+        @Override
+        public void write(JsonWriter out, LocalDateTime value) throws IOException {
+            out.value(value != null ? value.toString() : null);
+        }
+
+        @Override
+        public LocalDateTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }
+            String s = in.nextString();
+            try {
+                return LocalDateTime.parse(s);
+            } catch (DateTimeParseException e) {
+                // ISO instants with an offset, e.g. "2026-01-15T10:00:00.000Z"
+                try {
+                    return OffsetDateTime.parse(s).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+                } catch (DateTimeParseException e2) {
+                    return null;
+                }
+            }
+        }
+    };
+
+    private interface Definition<T> {
+        BeanAdapter<T> create(Gson gson, boolean snakeCase);
+    }
+
+    private static final Map<Class<?>, Definition<?>> definitions = new HashMap<>();
+
+    static {
+        register(Tag.class, (gson, snake) -> new BeanAdapter<Tag>(Tag::new, snake)
+                .integer("tagId", Tag::getTagId, Tag::setTagId)
+                .alias("id", BeanAdapter.INTEGER, Tag::setId)
+                .string("tagName", Tag::getTagName, Tag::setTagName)
+                .alias("name", BeanAdapter.STRING, Tag::setName)
+                .string("naicsCode", Tag::getNaicsCode, Tag::setNaicsCode)
+                .string("naceCode", Tag::getNaceCode, Tag::setNaceCode)
+                .doubleValue("sectorGdpUsd", Tag::getSectorGdpUsd, Tag::setSectorGdpUsd)
+                .doubleValue("sectorGdpEur", Tag::getSectorGdpEur, Tag::setSectorGdpEur));
+        register(Government.class, (gson, snake) -> new BeanAdapter<Government>(Government::new, snake)
+                .integer("govId", Government::getGovId, Government::setGovId)
+                .string("name", Government::getName, Government::setName)
+                .string("jurisdiction", Government::getJurisdiction, Government::setJurisdiction)
+                .string("branch", Government::getBranch, Government::setBranch));
+        register(Member.class, (gson, snake) -> new BeanAdapter<Member>(Member::new, snake)
+                .integer("memId", Member::getMemId, Member::setMemId)
+                .string("firstName", Member::getFirstName, Member::setFirstName)
+                .string("lastName", Member::getLastName, Member::setLastName)
+                .string("territoryPrimary", Member::getTerritoryPrimary, Member::setTerritoryPrimary)
+                .string("territorySecondary", Member::getTerritorySecondary, Member::setTerritorySecondary)
+                .string("politicalParty", Member::getPoliticalParty, Member::setPoliticalParty)
+                .integer("popularity", Member::getPopularity, Member::setPopularity));
+        register(GovernmentMember.class, (gson, snake) -> new BeanAdapter<GovernmentMember>(GovernmentMember::new, snake)
+                .integer("gm", GovernmentMember::getGm, GovernmentMember::setGm)
+                .integer("govId", GovernmentMember::getGovId, GovernmentMember::setGovId)
+                .integer("memId", GovernmentMember::getMemId, GovernmentMember::setMemId)
+                .field("government", gson.getAdapter(Government.class), GovernmentMember::getGovernment, GovernmentMember::setGovernment)
+                .field("member", gson.getAdapter(Member.class), GovernmentMember::getMember, GovernmentMember::setMember));
+        register(Legislation.class, (gson, snake) -> new BeanAdapter<Legislation>(Legislation::new, snake)
+                .integer("legId", Legislation::getLegId, Legislation::setLegId)
+                .string("billType", Legislation::getBillType, Legislation::setBillType)
+                .string("billNumber", Legislation::getBillNumber, Legislation::setBillNumber)
+                .string("refCode", Legislation::getRefCode, Legislation::setRefCode)
+                .integer("tagId", Legislation::getTagId, Legislation::setTagId)
+                .string("title", Legislation::getTitle, Legislation::setTitle)
+                .string("summary", Legislation::getSummary, Legislation::setSummary)
+                .string("policyArea", Legislation::getPolicyArea, Legislation::setPolicyArea)
+                .integer("sponsorGovMemId", Legislation::getSponsorGovMemId, Legislation::setSponsorGovMemId)
+                .integer("cosponsorGovMemId", Legislation::getCosponsorGovMemId, Legislation::setCosponsorGovMemId)
+                .integer("initiatorCommissionerId", Legislation::getInitiatorCommissionerId, Legislation::setInitiatorCommissionerId)
+                .field("dateIntroduced", LOCAL_DATE, Legislation::getDateIntroduced, Legislation::setDateIntroduced)
+                .string("currentStatus", Legislation::getCurrentStatus, Legislation::setCurrentStatus)
+                .field("tag", gson.getAdapter(Tag.class), Legislation::getTag, Legislation::setTag)
+                .field("sponsor", gson.getAdapter(GovernmentMember.class), Legislation::getSponsor, Legislation::setSponsor)
+                .field("cosponsor", gson.getAdapter(GovernmentMember.class), Legislation::getCosponsor, Legislation::setCosponsor));
+        register(Committee.class, (gson, snake) -> new BeanAdapter<Committee>(Committee::new, snake)
+                .integer("comId", Committee::getComId, Committee::setComId)
+                .integer("govId", Committee::getGovId, Committee::setGovId)
+                .string("name", Committee::getName, Committee::setName)
+                .string("officialCode", Committee::getOfficialCode, Committee::setOfficialCode)
+                .string("apiUrl", Committee::getApiUrl, Committee::setApiUrl)
+                .integer("tagId", Committee::getTagId, Committee::setTagId)
+                .field("government", gson.getAdapter(Government.class), Committee::getGovernment, Committee::setGovernment)
+                .field("tag", gson.getAdapter(Tag.class), Committee::getTag, Committee::setTag));
+        register(CommitteeMaterial.class, (gson, snake) -> new BeanAdapter<CommitteeMaterial>(CommitteeMaterial::new, snake)
+                .integer("matId", CommitteeMaterial::getMatId, CommitteeMaterial::setMatId)
+                .integer("comId", CommitteeMaterial::getComId, CommitteeMaterial::setComId)
+                .integer("legId", CommitteeMaterial::getLegId, CommitteeMaterial::setLegId)
+                .string("materialType", CommitteeMaterial::getMaterialType, CommitteeMaterial::setMaterialType)
+                .string("title", CommitteeMaterial::getTitle, CommitteeMaterial::setTitle)
+                .string("officialRefNumber", CommitteeMaterial::getOfficialRefNumber, CommitteeMaterial::setOfficialRefNumber)
+                .string("officialSummary", CommitteeMaterial::getOfficialSummary, CommitteeMaterial::setOfficialSummary)
+                .string("sectionAnalysis", CommitteeMaterial::getSectionAnalysis, CommitteeMaterial::setSectionAnalysis)
+                .doubleValue("fiscalImpactValue", CommitteeMaterial::getFiscalImpactValue, CommitteeMaterial::setFiscalImpactValue)
+                .field("eventDate", LOCAL_DATE, CommitteeMaterial::getEventDate, CommitteeMaterial::setEventDate)
+                .string("documentUrl", CommitteeMaterial::getDocumentUrl, CommitteeMaterial::setDocumentUrl)
+                .field("committee", gson.getAdapter(Committee.class), CommitteeMaterial::getCommittee, CommitteeMaterial::setCommittee)
+                .field("legislation", gson.getAdapter(Legislation.class), CommitteeMaterial::getLegislation, CommitteeMaterial::setLegislation));
+        register(CommitteeWitness.class, (gson, snake) -> new BeanAdapter<CommitteeWitness>(CommitteeWitness::new, snake)
+                .integer("witId", CommitteeWitness::getWitId, CommitteeWitness::setWitId)
+                .integer("matId", CommitteeWitness::getMatId, CommitteeWitness::setMatId)
+                .string("name", CommitteeWitness::getName, CommitteeWitness::setName)
+                .string("organization", CommitteeWitness::getOrganization, CommitteeWitness::setOrganization)
+                .string("positionTitle", CommitteeWitness::getPositionTitle, CommitteeWitness::setPositionTitle)
+                .string("witnessType", CommitteeWitness::getWitnessType, CommitteeWitness::setWitnessType)
+                .bool("isSp500Related", CommitteeWitness::getIsSp500Related, CommitteeWitness::setIsSp500Related)
+                .string("testimonySummary", CommitteeWitness::getTestimonySummary, CommitteeWitness::setTestimonySummary)
+                .field("committeeMaterial", gson.getAdapter(CommitteeMaterial.class), CommitteeWitness::getCommitteeMaterial, CommitteeWitness::setCommitteeMaterial));
+        register(Nomination.class, (gson, snake) -> new BeanAdapter<Nomination>(Nomination::new, snake)
+                .integer("nomId", Nomination::getNomId, Nomination::setNomId)
+                .integer("memId", Nomination::getMemId, Nomination::setMemId)
+                .integer("confirmingGovId", Nomination::getConfirmingGovId, Nomination::setConfirmingGovId)
+                .string("positionTitle", Nomination::getPositionTitle, Nomination::setPositionTitle)
+                .string("targetOrganization", Nomination::getTargetOrganization, Nomination::setTargetOrganization)
+                .integer("tagId", Nomination::getTagId, Nomination::setTagId)
+                .field("dateReceived", LOCAL_DATE, Nomination::getDateReceived, Nomination::setDateReceived)
+                .string("currentStatus", Nomination::getCurrentStatus, Nomination::setCurrentStatus)
+                .string("officialSummary", Nomination::getOfficialSummary, Nomination::setOfficialSummary)
+                .string("documentUrl", Nomination::getDocumentUrl, Nomination::setDocumentUrl)
+                .field("member", gson.getAdapter(Member.class), Nomination::getMember, Nomination::setMember)
+                .field("confirmingGovernment", gson.getAdapter(Government.class), Nomination::getConfirmingGovernment, Nomination::setConfirmingGovernment)
+                .field("tag", gson.getAdapter(Tag.class), Nomination::getTag, Nomination::setTag));
+        register(Treaty.class, (gson, snake) -> new BeanAdapter<Treaty>(Treaty::new, snake)
+                .integer("treatyId", Treaty::getTreatyId, Treaty::setTreatyId)
+                .integer("govId", Treaty::getGovId, Treaty::setGovId)
+                .string("officialNumber", Treaty::getOfficialNumber, Treaty::setOfficialNumber)
+                .string("title", Treaty::getTitle, Treaty::setTitle)
+                .string("foreignPartner", Treaty::getForeignPartner, Treaty::setForeignPartner)
+                .integer("tagId", Treaty::getTagId, Treaty::setTagId)
+                .field("transmissionDate", LOCAL_DATE, Treaty::getTransmissionDate, Treaty::setTransmissionDate)
+                .string("currentStatus", Treaty::getCurrentStatus, Treaty::setCurrentStatus)
+                .string("officialSummary", Treaty::getOfficialSummary, Treaty::setOfficialSummary)
+                .string("documentUrl", Treaty::getDocumentUrl, Treaty::setDocumentUrl)
+                .field("government", gson.getAdapter(Government.class), Treaty::getGovernment, Treaty::setGovernment)
+                .field("tag", gson.getAdapter(Tag.class), Treaty::getTag, Treaty::setTag));
+        register(LegislativeAction.class, (gson, snake) -> new BeanAdapter<LegislativeAction>(LegislativeAction::new, snake)
+                .integer("actionId", LegislativeAction::getActionId, LegislativeAction::setActionId)
+                .integer("legId", LegislativeAction::getLegId, LegislativeAction::setLegId)
+                .integer("govId", LegislativeAction::getGovId, LegislativeAction::setGovId)
+                .integer("treatyId", LegislativeAction::getTreatyId, LegislativeAction::setTreatyId)
+                .field("actionDate", LOCAL_DATE, LegislativeAction::getActionDate, LegislativeAction::setActionDate)
+                .string("actionType", LegislativeAction::getActionType, LegislativeAction::setActionType)
+                .string("description", LegislativeAction::getDescription, LegislativeAction::setDescription)
+                .string("rollCallId", LegislativeAction::getRollCallId, LegislativeAction::setRollCallId)
+                .integer("actingGovMemId", LegislativeAction::getActingGovMemId, LegislativeAction::setActingGovMemId)
+                .field("legislation", gson.getAdapter(Legislation.class), LegislativeAction::getLegislation, LegislativeAction::setLegislation)
+                .field("government", gson.getAdapter(Government.class), LegislativeAction::getGovernment, LegislativeAction::setGovernment)
+                .field("treaty", gson.getAdapter(Treaty.class), LegislativeAction::getTreaty, LegislativeAction::setTreaty)
+                .field("actingMember", gson.getAdapter(GovernmentMember.class), LegislativeAction::getActingMember, LegislativeAction::setActingMember));
+        register(ResearchReport.class, (gson, snake) -> new BeanAdapter<ResearchReport>(ResearchReport::new, snake)
+                .integer("reportId", ResearchReport::getReportId, ResearchReport::setReportId)
+                .integer("govId", ResearchReport::getGovId, ResearchReport::setGovId)
+                .string("reportNumber", ResearchReport::getReportNumber, ResearchReport::setReportNumber)
+                .string("title", ResearchReport::getTitle, ResearchReport::setTitle)
+                .integer("tagId", ResearchReport::getTagId, ResearchReport::setTagId)
+                .integer("legId", ResearchReport::getLegId, ResearchReport::setLegId)
+                .string("summaryText", ResearchReport::getSummaryText, ResearchReport::setSummaryText)
+                .field("datePublished", LOCAL_DATE, ResearchReport::getDatePublished, ResearchReport::setDatePublished)
+                .string("documentUrl", ResearchReport::getDocumentUrl, ResearchReport::setDocumentUrl)
+                .field("government", gson.getAdapter(Government.class), ResearchReport::getGovernment, ResearchReport::setGovernment)
+                .field("tag", gson.getAdapter(Tag.class), ResearchReport::getTag, ResearchReport::setTag)
+                .field("legislation", gson.getAdapter(Legislation.class), ResearchReport::getLegislation, ResearchReport::setLegislation));
+        register(Policy.class, (gson, snake) -> new BeanAdapter<Policy>(Policy::new, snake)
+                .longValue("id", Policy::getId, Policy::setId)
+                .string("title", Policy::getTitle, Policy::setTitle)
+                .string("description", Policy::getDescription, Policy::setDescription)
+                .string("category", Policy::getCategory, Policy::setCategory)
+                .string("countryCode", Policy::getCountryCode, Policy::setCountryCode)
+                .field("effectiveDate", LOCAL_DATE, Policy::getEffectiveDate, Policy::setEffectiveDate)
+                .field("expirationDate", LOCAL_DATE, Policy::getExpirationDate, Policy::setExpirationDate)
+                .string("status", Policy::getStatus, Policy::setStatus)
+                .string("source", Policy::getSource, Policy::setSource));
+        register(Stance.class, (gson, snake) -> new BeanAdapter<Stance>(Stance::new, snake)
+                .longValue("id", Stance::getId, Stance::setId)
+                .string("topic", Stance::getTopic, Stance::setTopic)
+                .string("position", Stance::getPosition, Stance::setPosition)
+                .string("description", Stance::getDescription, Stance::setDescription)
+                .string("countryCode", Stance::getCountryCode, Stance::setCountryCode)
+                .string("source", Stance::getSource, Stance::setSource));
+        register(Warning.class, (gson, snake) -> new BeanAdapter<Warning>(Warning::new, snake)
+                .longValue("id", Warning::getId, Warning::setId)
+                .string("title", Warning::getTitle, Warning::setTitle)
+                .string("message", Warning::getMessage, Warning::setMessage)
+                .string("severity", Warning::getSeverity, Warning::setSeverity)
+                .string("category", Warning::getCategory, Warning::setCategory)
+                .string("countryCode", Warning::getCountryCode, Warning::setCountryCode)
+                .field("affectedUserTypes", BeanAdapter.STRING_ARRAY, Warning::getAffectedUserTypes, Warning::setAffectedUserTypes));
+        register(Country.class, (gson, snake) -> new BeanAdapter<Country>(Country::new, snake)
+                .string("code", Country::getCode, Country::setCode)
+                .string("name", Country::getName, Country::setName)
+                .string("flag", Country::getFlag, Country::setFlag)
+                .field("policies", BeanAdapter.listOf(gson.getAdapter(Policy.class)), Country::getPolicies, Country::setPolicies)
+                .field("stances", BeanAdapter.listOf(gson.getAdapter(Stance.class)), Country::getStances, Country::setStances)
+                .field("abidesBy", BeanAdapter.STRING_LIST, Country::getAbidesBy, Country::setAbidesBy)
+                .field("doesNotFollow", BeanAdapter.STRING_LIST, Country::getDoesNotFollow, Country::setDoesNotFollow)
+                .string("summary", Country::getSummary, Country::setSummary)
+                .field("warnings", BeanAdapter.listOf(gson.getAdapter(Warning.class)), Country::getWarnings, Country::setWarnings));
+        register(NewsArticle.class, (gson, snake) -> new BeanAdapter<NewsArticle>(NewsArticle::new, snake)
+                .longValue("id", NewsArticle::getId, NewsArticle::setId)
+                .string("title", NewsArticle::getTitle, NewsArticle::setTitle)
+                .string("content", NewsArticle::getContent, NewsArticle::setContent)
+                .string("summary", NewsArticle::getSummary, NewsArticle::setSummary)
+                .string("source", NewsArticle::getSource, NewsArticle::setSource)
+                .string("author", NewsArticle::getAuthor, NewsArticle::setAuthor)
+                .field("publishedAt", LOCAL_DATE_TIME, NewsArticle::getPublishedAt, NewsArticle::setPublishedAt)
+                .string("url", NewsArticle::getUrl, NewsArticle::setUrl)
+                .string("imageUrl", NewsArticle::getImageUrl, NewsArticle::setImageUrl)
+                .field("tags", BeanAdapter.STRING_ARRAY, NewsArticle::getTags, NewsArticle::setTags)
+                .string("countryCode", NewsArticle::getCountryCode, NewsArticle::setCountryCode)
+                .string("region", NewsArticle::getRegion, NewsArticle::setRegion)
+                .field("relatedPoliticians", BeanAdapter.STRING_LIST, NewsArticle::getRelatedPoliticians, NewsArticle::setRelatedPoliticians)
+                .string("category", NewsArticle::getCategory, NewsArticle::setCategory)
+                .doubleValue("relevanceScore", NewsArticle::getRelevanceScore, NewsArticle::setRelevanceScore));
+        register(User.class, (gson, snake) -> new BeanAdapter<User>(User::new, snake)
+                .longValue("id", User::getId, User::setId)
+                .string("username", User::getUsername, User::setUsername)
+                .string("email", User::getEmail, User::setEmail)
+                .string("password", User::getPassword, User::setPassword)
+                .string("firstName", User::getFirstName, User::setFirstName)
+                .string("lastName", User::getLastName, User::setLastName)
+                .string("occupation", User::getOccupation, User::setOccupation)
+                .bool("hasStocks", User::getHasStocks, User::setHasStocks)
+                .field("commodityTags", BeanAdapter.STRING_LIST, User::getCommodityTags, User::setCommodityTags));
+        register(LoginRequest.class, (gson, snake) -> new BeanAdapter<LoginRequest>(LoginRequest::new, snake)
+                .string("username", LoginRequest::getUsername, LoginRequest::setUsername)
+                .string("password", LoginRequest::getPassword, LoginRequest::setPassword));
+        register(AuthResponse.class, (gson, snake) -> new BeanAdapter<AuthResponse>(AuthResponse::new, snake)
+                .string("token", AuthResponse::getToken, AuthResponse::setToken)
+                .string("access_token", AuthResponse::getAccessToken, AuthResponse::setAccessToken)
+                .field("user", gson.getAdapter(User.class), AuthResponse::getUser, AuthResponse::setUser)
+                .bool("success", AuthResponse::isSuccess, (r, v) -> r.setSuccess(v != null && v))
+                .string("message", AuthResponse::getMessage, AuthResponse::setMessage));
+        register(LocationInfo.class, (gson, snake) -> new BeanAdapter<LocationInfo>(LocationInfo::new, snake)
+                .doubleValue("latitude", LocationInfo::getLatitude, LocationInfo::setLatitude)
+                .doubleValue("longitude", LocationInfo::getLongitude, LocationInfo::setLongitude)
+                .string("formattedAddress", LocationInfo::getFormattedAddress, LocationInfo::setFormattedAddress)
+                .string("countryCode", LocationInfo::getCountryCode, LocationInfo::setCountryCode)
+                .string("region", LocationInfo::getRegion, LocationInfo::setRegion)
+                .string("city", LocationInfo::getCity, LocationInfo::setCity)
+                .string("timezone", LocationInfo::getTimezone, LocationInfo::setTimezone));
+        register(DashboardStats.class, (gson, snake) -> new BeanAdapter<DashboardStats>(DashboardStats::new, snake)
+                .integer("totalLegislation", DashboardStats::getTotalLegislation, DashboardStats::setTotalLegislation)
+                .integer("totalHearings", DashboardStats::getTotalHearings, DashboardStats::setTotalHearings)
+                .integer("totalNominations", DashboardStats::getTotalNominations, DashboardStats::setTotalNominations)
+                .integer("totalTreaties", DashboardStats::getTotalTreaties, DashboardStats::setTotalTreaties)
+                .integer("totalCommittees", DashboardStats::getTotalCommittees, DashboardStats::setTotalCommittees)
+                .integer("recentLegislationCount", DashboardStats::getRecentLegislationCount, DashboardStats::setRecentLegislationCount)
+                .integer("recentHearingsCount", DashboardStats::getRecentHearingsCount, DashboardStats::setRecentHearingsCount));
+        register(DashboardBundle.class, (gson, snake) -> new BeanAdapter<DashboardBundle>(DashboardBundle::new, snake)
+                .field("stats", gson.getAdapter(DashboardStats.class), DashboardBundle::getStats, DashboardBundle::setStats)
+                .field("legislation", BeanAdapter.listOf(gson.getAdapter(Legislation.class)), DashboardBundle::getLegislation, DashboardBundle::setLegislation)
+                .field("hearings", BeanAdapter.listOf(gson.getAdapter(CommitteeMaterial.class)), DashboardBundle::getHearings, DashboardBundle::setHearings)
+                .field("nominations", BeanAdapter.listOf(gson.getAdapter(Nomination.class)), DashboardBundle::getNominations, DashboardBundle::setNominations)
+                .field("committees", BeanAdapter.listOf(gson.getAdapter(Committee.class)), DashboardBundle::getCommittees, DashboardBundle::setCommittees)
+                .field("treaties", BeanAdapter.listOf(gson.getAdapter(Treaty.class)), DashboardBundle::getTreaties, DashboardBundle::setTreaties));
+
+    }
+
+    private static <T> void register(Class<T> type, Definition<T> definition) {
+        definitions.put(type, definition);
+    }
+
+    private final boolean snakeCase;
+
+    /**
+     * @param snakeCase Write snake_case names (Supabase) instead of camelCase (backend);
+     *                  both spellings are always accepted when reading
+     */
+    public ModelAdapters(boolean snakeCase) {
+        this.snakeCase = snakeCase;
+    }
+
+    /**
+     * Create a Gson instance with the model adapters registered
+     */
+    public static Gson createGson(boolean snakeCase) {
+        return new GsonBuilder()
+                .registerTypeAdapterFactory(new ModelAdapters(snakeCase))
+                .create();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> raw = type.getRawType();
+        if (raw == LocalDate.class) return (TypeAdapter<T>) LOCAL_DATE;
+        if (raw == LocalDateTime.class) return (TypeAdapter<T>) LOCAL_DATE_TIME;
+
+        Definition<?> definition = definitions.get(raw);
+        if (definition == null) return null;
+        return (TypeAdapter<T>) definition.create(gson, snakeCase);
+    }
+}
@@ -0,0 +1,25 @@
+package com.orwel.service;
+
+import com.google.gson.reflect.TypeToken;
+import com.orwel.model.*;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Cached generic Type constants, so decoding a list doesn't allocate a new TypeToken per call
+ */
+public final class ModelTypes {
+    public static final Type STRING_LIST = new TypeToken<List<String>>(){}.getType();
+    public static final Type COUNTRY_LIST = new TypeToken<List<Country>>(){}.getType();
+    public static final Type WARNING_LIST = new TypeToken<List<Warning>>(){}.getType();
+    public static final Type NEWS_LIST = new TypeToken<List<NewsArticle>>(){}.getType();
+    public static final Type LEGISLATION_LIST = new TypeToken<List<Legislation>>(){}.getType();
+    public static final Type HEARING_LIST = new TypeToken<List<CommitteeMaterial>>(){}.getType();
+    public static final Type NOMINATION_LIST = new TypeToken<List<Nomination>>(){}.getType();
+    public static final Type COMMITTEE_LIST = new TypeToken<List<Committee>>(){}.getType();
+    public static final Type TREATY_LIST = new TypeToken<List<Treaty>>(){}.getType();
+    public static final Type RESEARCH_REPORT_LIST = new TypeToken<List<ResearchReport>>(){}.getType();
+
+    private ModelTypes() {}
+}
@@ -0,0 +1,115 @@
+package com.orwel.service;
+
+import com.orwel.model.NewsArticle;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * LRU cache of news search results keyed by (query, country, region)
+ * A query that extends a cached query (e.g. "oil pr" after "oil") is answered by filtering
+ * the cached results locally, provided that earlier result set was complete (not truncated)
+ */
+public class NewsSearchCache {
+    private final int maxEntries;
+    private final long ttlMs;
+    private final Map<String, Entry> entries;
+
+    /**
+     * @param maxEntries Number of result sets kept before the least recently used is evicted
+     * @param ttlMs How long a result set may be reused
+     */
+    public NewsSearchCache(int maxEntries, long ttlMs) {
+        this.maxEntries = maxEntries;
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > NewsSearchCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached results for the search, either stored for this exact query or filtered
+     * from a complete result set of a shorter prefix
+     * @return The results, or null if the network has to be asked
+     */
+    public synchronized List<NewsArticle> lookup(String query, String country, String region) {
+        String normalized = normalize(query);
+        long now = System.currentTimeMillis();
+
+        Entry exact = entries.get(key(normalized, country, region));
+        if (exact != null && now - exact.storedAt <= ttlMs) {
+            return exact.results;
+        }
+
+        // Longest cached prefix whose result set was complete
+        for (int length = normalized.length() - 1; length > 0; length--) {
+            Entry prefix = entries.get(key(normalized.substring(0, length), country, region));
+            if (prefix == null || !prefix.complete || now - prefix.storedAt > ttlMs) {
+                continue;
+            }
+            List<NewsArticle> filtered = new ArrayList<>();
+            for (NewsArticle article : prefix.results) {
+                if (matches(article, normalized)) {
+                    filtered.add(article);
+                }
+            }
+            // A subset of a complete result set is itself complete
+            entries.put(key(normalized, country, region), new Entry(filtered, true, prefix.storedAt));
+            return filtered;
+        }
+        return null;
+    }
+
+    /**
+     * Remember the results of a search
+     * @param complete Whether the server returned every match (the response wasn't cut off by a limit)
+     */
+    public synchronized void store(String query, String country, String region,
+                                   List<NewsArticle> results, boolean complete) {
+        entries.put(key(normalize(query), country, region),
+                new Entry(results, complete, System.currentTimeMillis()));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Same match rule as the backend's /news/search: case-insensitive substring of title, summary or content
+     */
+    static boolean matches(NewsArticle article, String normalizedQuery) {
+        return contains(article.getTitle(), normalizedQuery)
+                || contains(article.getSummary(), normalizedQuery)
+                || contains(article.getContent(), normalizedQuery);
+    }
+
+    static String normalize(String query) {
+        return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean contains(String text, String normalizedQuery) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains(normalizedQuery);
+    }
+
+    private static String key(String normalizedQuery, String country, String region) {
+        return normalizedQuery + '\u0000' + country + '\u0000' + region;
+    }
+
+    private static class Entry {
+        private final List<NewsArticle> results;
+        private final boolean complete;
+        private final long storedAt;
+
+        Entry(List<NewsArticle> results, boolean complete, long storedAt) {
+            this.results = results;
+            this.complete = complete;
+            this.storedAt = storedAt;
+        }
+    }
+}
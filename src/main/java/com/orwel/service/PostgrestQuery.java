@@ -0,0 +1,149 @@
+package com.orwel.service;
+
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Small builder for PostgREST query URLs
+ * Supports resource embedding with inner joins so filters on related tables
+ * (e.g. committee_materials → committees → tag) run server-side in one request
+ */
+public class PostgrestQuery {
+    private final String table;
+    private final List<String> select = new ArrayList<>();
+    private final Map<String, String> params = new LinkedHashMap<>();
+
+    private PostgrestQuery(String table) {
+        this.table = table;
+    }
+
+    /**
+     * Start a query against a table
+     */
+    public static PostgrestQuery from(String table) {
+        return new PostgrestQuery(table);
+    }
+
+    /**
+     * Build an inner-join embed expression, e.g. inner("tag", "tag_name") → tag!inner(tag_name)
+     * Can be nested as the columns of another embed
+     */
+    public static String inner(String relation, String columns) {
+        return relation + "!inner(" + columns + ")";
+    }
+
+    /**
+     * Add columns to the select list
+     */
+    public PostgrestQuery select(String columns) {
+        select.add(columns);
+        return this;
+    }
+
+    /**
+     * Embed a related resource with an inner join, so rows without a match are dropped
+     */
+    public PostgrestQuery innerJoin(String relation, String columns) {
+        select.add(inner(relation, columns));
+        return this;
+    }
+
+    /**
+     * Filter: column in (values); column may be an embedded path such as "committees.tag.tag_name"
+     */
+    public PostgrestQuery in(String column, Collection<?> values) {
+        String list = values.stream()
+                .map(PostgrestQuery::quote)
+                .collect(Collectors.joining(","));
+        params.put(column, "in.(" + list + ")");
+        return this;
+    }
+
+    /**
+     * Filter: column = value
+     */
+    public PostgrestQuery eq(String column, Object value) {
+        params.put(column, "eq." + value);
+        return this;
+    }
+
+    /**
+     * Filter: column >= value
+     */
+    public PostgrestQuery gte(String column, Object value) {
+        params.put(column, "gte." + value);
+        return this;
+    }
+
+    /**
+     * Filter: column > value
+     */
+    public PostgrestQuery gt(String column, Object value) {
+        params.put(column, "gt." + value);
+        return this;
+    }
+
+    /**
+     * Filter: any of the given conditions, in PostgREST logic-tree syntax,
+     * e.g. or("updated_at.gt.X", "and(updated_at.eq.X,leg_id.gt.5)")
+     */
+    public PostgrestQuery or(String... conditions) {
+        params.put("or", "(" + String.join(",", conditions) + ")");
+        return this;
+    }
+
+    /**
+     * Order by a column
+     */
+    public PostgrestQuery order(String column, boolean descending) {
+        params.put("order", column + (descending ? ".desc" : ".asc"));
+        return this;
+    }
+
+    /**
+     * Add a tie-breaking column after the one given to {@link #order}
+     */
+    public PostgrestQuery thenOrder(String column, boolean descending) {
+        params.merge("order", column + (descending ? ".desc" : ".asc"), (first, next) -> first + "," + next);
+        return this;
+    }
+
+    /**
+     * Limit the number of rows
+     */
+    public PostgrestQuery limit(int limit) {
+        params.put("limit", String.valueOf(limit));
+        return this;
+    }
+
+    /**
+     * Build the full URL under {baseUrl}/rest/v1/
+     */
+    public HttpUrl toUrl(String baseUrl) {
+        HttpUrl.Builder builder = HttpUrl.parse(baseUrl + "/rest/v1/" + table).newBuilder();
+        builder.addQueryParameter("select", select.isEmpty() ? "*" : String.join(",", select));
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            builder.addQueryParameter(param.getKey(), param.getValue());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return table + "?select=" + (select.isEmpty() ? "*" : String.join(",", select)) + " " + params;
+    }
+
+    private static String quote(Object value) {
+        if (value instanceof Number) {
+            return value.toString();
+        }
+        // Double-quote strings so commas and dots in tag names don't break the list
+        return "\"" + String.valueOf(value).replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,158 @@
+package com.orwel.service;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.orwel.config.AppConfig;
+import com.orwel.service.LocalReplica.SyncState;
+import com.orwel.service.LocalReplica.Table;
+import com.orwel.service.LocalReplica.WatermarkMode;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Incremental sync of the Supabase tables into {@link LocalReplica}
+ * Each pass pulls only rows past the table's watermark, in keyset-paged requests ordered by
+ * (updated_at, id), and applies every page in one transaction. Tables without an updated_at
+ * column fall back to an id watermark, which picks up new rows but not edits.
+ * Rows deleted upstream are not removed from the replica.
+ * Passes run on one background thread at startup and then every {@value #SYNC_INTERVAL_MINUTES} minutes;
+ * a failed pass (e.g. offline) leaves the replica as it was and is retried on the next run
+ */
+public class ReplicaSync {
+    private static final int PAGE_SIZE = 1000;
+    private static final long SYNC_INTERVAL_MINUTES = 15;
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicBoolean syncing = new AtomicBoolean(false);
+    private static ScheduledFuture<?> schedule;
+
+    /**
+     * Start periodic syncing (no-op when Supabase isn't configured or syncing already started)
+     */
+    public static synchronized void start() {
+        if (schedule != null || !AppConfig.isSupabaseConfigured()) return;
+        schedule = scheduler.scheduleWithFixedDelay(ReplicaSync::syncAll, 0, SYNC_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stop syncing; a pass in progress stops after the page it is applying
+     */
+    public static synchronized void stop() {
+        if (schedule != null) {
+            schedule.cancel(true);
+            schedule = null;
+        }
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Run one pass over every table; concurrent calls are skipped while a pass is running
+     */
+    static void syncAll() {
+        if (!syncing.compareAndSet(false, true)) return;
+        long started = System.currentTimeMillis();
+        int changed = 0;
+        try {
+            SupabaseClient supabase = SupabaseClient.getInstance();
+            // tag first: the other tables are looked up through it
+            for (Table table : Table.values()) {
+                changed += syncTable(supabase, table);
+            }
+            System.out.println("Replica sync: " + changed + " rows changed in "
+                    + (System.currentTimeMillis() - started) + " ms");
+        } catch (IOException e) {
+            System.out.println("Replica sync skipped, serving local data: " + e.getMessage());
+        } catch (Exception e) {
+            // Keep the scheduled task alive for the next run
+            System.err.println("Replica sync failed: " + e.getMessage());
+        } finally {
+            syncing.set(false);
+        }
+        if (changed > 0) {
+            ApiService.getInstance().invalidateTaggedLists();
+        }
+    }
+
+    /**
+     * Pull every page of changes for one table
+     * @return Number of rows applied
+     */
+    private static int syncTable(SupabaseClient supabase, Table table) throws IOException, SQLException {
+        SyncState state = LocalReplica.getState(table);
+        int applied = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            List<JsonObject> rows = supabase.fetchRows(pageQuery(table, state));
+            if (rows == null) {
+                if (state.getMode() == WatermarkMode.ID) {
+                    throw new IOException("Supabase rejected the sync query for " + table.getRemoteName());
+                }
+                // No updated_at column: track new rows by id instead
+                System.out.println("  Replica: " + table.getRemoteName() + " has no updated_at, syncing by id");
+                state.setMode(WatermarkMode.ID);
+                state.setUpdatedAt(null);
+                state.setLastId(null);
+                LocalReplica.saveState(table, state);
+                continue;
+            }
+
+            boolean lastPage = rows.size() < PAGE_SIZE;
+            if (!rows.isEmpty()) {
+                JsonObject last = rows.get(rows.size() - 1);
+                if (state.getMode() == WatermarkMode.ID) {
+                    state.setLastId(last.get(table.getIdColumn()).getAsLong());
+                } else {
+                    JsonElement updatedAt = last.get("updated_at");
+                    if (updatedAt == null || updatedAt.isJsonNull()) {
+                        // Rows without a timestamp sort last and can't be paged past; keep the watermark
+                        lastPage = true;
+                    } else {
+                        state.setUpdatedAt(updatedAt.getAsString());
+                        state.setLastId(last.get(table.getIdColumn()).getAsLong());
+                    }
+                }
+            }
+            if (lastPage) {
+                state.setCompletedAt(System.currentTimeMillis());
+            }
+            LocalReplica.applyPage(table, rows, state);
+            applied += rows.size();
+            if (lastPage) break;
+        }
+        return applied;
+    }
+
+    /**
+     * The next page after the watermark
+     */
+    static PostgrestQuery pageQuery(Table table, SyncState state) {
+        String id = table.getIdColumn();
+        PostgrestQuery query = PostgrestQuery.from(table.getRemoteName()).select("*").limit(PAGE_SIZE);
+
+        if (state.getMode() == WatermarkMode.ID) {
+            if (state.getLastId() != null) {
+                query.gt(id, state.getLastId());
+            }
+            return query.order(id, false);
+        }
+
+        if (state.getUpdatedAt() != null) {
+            // Keyset: strictly after (updated_at, id), so rows sharing a timestamp aren't skipped or repeated
+            String since = "\"" + state.getUpdatedAt() + "\"";
+            query.or("updated_at.gt." + since,
+                    "and(updated_at.eq." + since + "," + id + ".gt." + state.getLastId() + ")");
+        }
+        return query.order("updated_at", false).thenOrder(id, false);
+    }
+}
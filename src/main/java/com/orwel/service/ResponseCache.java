@@ -0,0 +1,160 @@
+package com.orwel.service;
+
+import com.google.gson.Gson;
+import com.orwel.util.TaskScheduler;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * In-memory stale-while-revalidate cache for API reads
+ * Cached values are returned immediately; once an entry is older than its TTL it is still
+ * served, but refreshed in the background and handed to the caller again if it changed.
+ * Entries are evicted least-recently-used once the cache is full. Revalidations run on
+ * {@link TaskScheduler#executor()}, so they stop with the rest of the app's background work
+ */
+public class ResponseCache {
+    /**
+     * Network read behind a cache entry
+     */
+    @FunctionalInterface
+    public interface Fetcher<T> {
+        T fetch() throws IOException;
+    }
+
+    private final int maxEntries;
+    private final Gson gson;
+    private final Map<String, Entry> entries;
+    // Keys with a background refresh in flight, so a stale entry is only revalidated once at a time
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param maxEntries Number of responses kept before the least recently used is evicted
+     * @param gson Used to fingerprint values, since the model classes don't implement equals
+     */
+    public ResponseCache(int maxEntries, Gson gson) {
+        this.maxEntries = maxEntries;
+        this.gson = gson;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Read through the cache
+     * @param ttlMs How long a cached value counts as fresh
+     * @param fetcher Loads the value from the network on a miss or revalidation
+     * @param onUpdate Called from a background thread with the refreshed value when revalidation
+     *                 returns something different from what was served; may be null
+     * @return The cached value (fresh or stale), or the fetched value on a miss
+     */
+    public <T> T get(String key, long ttlMs, Fetcher<T> fetcher, Consumer<T> onUpdate) throws IOException {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            T value = fetcher.fetch();
+            put(key, value);
+            return value;
+        }
+        if (System.currentTimeMillis() - entry.storedAt > ttlMs) {
+            revalidate(key, entry, fetcher, onUpdate);
+        }
+        @SuppressWarnings("unchecked")
+        T value = (T) entry.value;
+        return value;
+    }
+
+    /**
+     * Read through the cache without revalidation callbacks
+     */
+    public <T> T get(String key, long ttlMs, Fetcher<T> fetcher) throws IOException {
+        return get(key, ttlMs, fetcher, null);
+    }
+
+    /**
+     * Drop every entry whose key starts with the prefix
+     */
+    public void invalidate(String keyPrefix) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+        }
+    }
+
+    /**
+     * Drop all entries (e.g. on logout)
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Number of cached responses
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private <T> void revalidate(String key, Entry stale, Fetcher<T> fetcher, Consumer<T> onUpdate) {
+        if (!revalidating.add(key)) {
+            return;
+        }
+        Runnable refresh = () -> {
+            try {
+                T fresh = fetcher.fetch();
+                Entry stored = put(key, fresh);
+                if (stored != null && stored.fingerprint != stale.fingerprint && onUpdate != null) {
+                    onUpdate.accept(fresh);
+                }
+            } catch (IOException e) {
+                // Keep serving the stale value; the next read retries
+                System.err.println("Revalidation failed for " + key + ": " + e.getMessage());
+            } finally {
+                revalidating.remove(key);
+            }
+        };
+        try {
+            TaskScheduler.executor().execute(refresh);
+        } catch (RejectedExecutionException e) {
+            // Shutting down; the stale value is still served
+            revalidating.remove(key);
+        }
+    }
+
+    private Entry put(String key, Object value) {
+        if (value == null) {
+            // Failed or empty reads aren't cached, so the next visit asks the network again
+            return null;
+        }
+        Entry entry = new Entry(value, gson.toJson(value).hashCode(), System.currentTimeMillis());
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final int fingerprint;
+        private final long storedAt;
+
+        Entry(Object value, int fingerprint, long storedAt) {
+            this.value = value;
+            this.fingerprint = fingerprint;
+            this.storedAt = storedAt;
+        }
+    }
+}
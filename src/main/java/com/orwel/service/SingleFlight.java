@@ -0,0 +1,124 @@
+package com.orwel.service;
+
+import com.orwel.util.LoadHandle;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request coalescing for identical concurrent calls
+ * The first caller for a key performs the call; callers arriving while it is in flight
+ * wait for and share its result (or its exception) instead of issuing a duplicate request.
+ * Shared results are the same instance for every caller, so they must be treated as read-only.
+ * If the caller that issued the request cancels its load, waiting callers issue it again
+ */
+public class SingleFlight {
+    private final String name;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder issued = new LongAdder();
+
+    /**
+     * @param name Label used when reporting the counters
+     */
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Build a key from an endpoint and its arguments
+     * Collections are sorted and de-duplicated, so ["oil", "gold"] and ["gold", "oil"] coalesce
+     */
+    public static String key(String endpoint, Object... args) {
+        StringBuilder sb = new StringBuilder(endpoint);
+        for (Object arg : args) {
+            sb.append(':');
+            if (arg instanceof Collection<?> values) {
+                TreeSet<String> normalized = new TreeSet<>();
+                for (Object value : values) {
+                    normalized.add(String.valueOf(value));
+                }
+                sb.append(normalized);
+            } else {
+                sb.append(arg);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Run the call, or join the identical call already in flight for this key
+     */
+    public <T> T execute(String key, ResponseCache.Fetcher<T> call) throws IOException {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.increment();
+            try {
+                return await(existing);
+            } catch (LoadHandle.LoadCancelledException e) {
+                // The issuing caller's load was cancelled, not ours
+                if (LoadHandle.isCurrentCancelled()) throw e;
+                return execute(key, call);
+            }
+        }
+
+        issued.increment();
+        try {
+            T result = call.fetch();
+            mine.complete(result);
+            return result;
+        } catch (IOException | RuntimeException e) {
+            // Tell waiting callers whether this failed only because our load was cancelled
+            mine.completeExceptionally(LoadHandle.isCurrentCancelled() && !(e instanceof LoadHandle.LoadCancelledException)
+                    ? new LoadHandle.LoadCancelledException(e instanceof IOException io ? io : new IOException(e))
+                    : e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Calls that joined an in-flight request instead of issuing their own
+     */
+    public long getHits() {
+        return shared.sum();
+    }
+
+    /**
+     * Calls that went out to the network
+     */
+    public long getMisses() {
+        return issued.sum();
+    }
+
+    @Override
+    public String toString() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return String.format("%s single-flight: %d of %d calls shared an in-flight request (%.0f%%)",
+                name, hits, total, total == 0 ? 0.0 : hits * 100.0 / total);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T await(CompletableFuture<Object> future) throws IOException {
+        try {
+            return (T) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a shared request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+    }
+}
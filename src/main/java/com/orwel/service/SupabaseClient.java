@@ -1,24 +1,27 @@
 package com.orwel.service;
 
-import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.TypeAdapter;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
-import com.google.gson.stream.JsonToken;
-import com.google.gson.stream.JsonWriter;
 import com.orwel.config.AppConfig;
 import com.orwel.model.*;
+import com.orwel.util.LoadHandle;
 import okhttp3.*;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -27,47 +30,35 @@ import java.util.stream.Collectors;
  * committee_materials, nominations, members
  */
 public class SupabaseClient {
+    private static final int DEFAULT_LIMIT = 20;
+    private static final Type TAG_ROW_LIST = new TypeToken<List<TagRow>>(){}.getType();
     private static SupabaseClient instance;
     private final OkHttpClient client;
     private final Gson gson;
     private final String supabaseUrl;
     private final String supabaseKey;
     private String authToken;
+    private TagDictionary tagDictionary;
+    // Embedded queries the schema rejected; these use the multi-step path
+    private final Set<String> unsupportedEmbeds = ConcurrentHashMap.newKeySet();
+    private volatile boolean bundleRpcAvailable = true;
+    // Shares identical in-flight queries, e.g. the legislation lookup behind getHearingsViaLegislation
+    private final SingleFlight flights = new SingleFlight("SupabaseClient");
     
     private SupabaseClient() {
         this.supabaseUrl = AppConfig.SUPABASE_URL;
         this.supabaseKey = AppConfig.SUPABASE_ANON_KEY;
         
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(3, TimeUnit.SECONDS)
-                .readTimeout(5, TimeUnit.SECONDS)
-                .writeTimeout(3, TimeUnit.SECONDS)
-                .build();
+        this.client = HttpClientFactory.newClient(3, 5, 3);
         // snake_case mapping: tagId <-> tag_id, legId <-> leg_id, etc.
-        // Custom LocalDate adapter for "yyyy-MM-dd" date strings from Supabase
-        this.gson = new GsonBuilder()
-                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-                .registerTypeAdapter(LocalDate.class, new TypeAdapter<LocalDate>() {
-                    private final DateTimeFormatter fmt = DateTimeFormatter.ISO_LOCAL_DATE;
-                    @Override
-                    public void write(JsonWriter out, LocalDate value) throws IOException {
-                        out.value(value != null ? value.format(fmt) : null);
-                    }
-                    @Override
-                    public LocalDate read(JsonReader in) throws IOException {
-                        if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }
-                        String s = in.nextString();
-                        try { return LocalDate.parse(s, fmt); } catch (Exception e) { return null; }
-                    }
-                })
-                .create();
+        this.gson = ModelAdapters.createGson(true);
         
         if (isConfigured()) {
             System.out.println("✓ Supabase client initialized: " + supabaseUrl);
         }
     }
     
-    public static SupabaseClient getInstance() {
+    public static synchronized SupabaseClient getInstance() {
         if (instance == null) {
             instance = new SupabaseClient();
         }
@@ -79,6 +70,13 @@ public class SupabaseClient {
             && supabaseKey != null && !supabaseKey.isEmpty();
     }
     
+    /**
+     * Hit/miss counters of the request coalescing layer
+     */
+    public SingleFlight getSingleFlight() {
+        return flights;
+    }
+    
     public void setAuthToken(String token) {
         this.authToken = token;
     }
@@ -98,34 +96,108 @@ public class SupabaseClient {
     // ─── Helper: resolve tag names → tag_id list ───
     
     private List<Integer> getTagIdsByNames(List<String> tagNames) throws IOException {
-        String namesParam = tagNames.stream()
-                .map(name -> "\"" + name + "\"")
-                .collect(Collectors.joining(","));
-        
-        // Table: tag (singular), columns: tag_id, tag_name
-        String url = supabaseUrl + "/rest/v1/tag?tag_name=in.(" + namesParam + ")&select=tag_id";
+        try {
+            return getTagDictionary().resolve(tagNames);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Tag lookup failed: " + e.getMessage(), e);
+        }
+    }
+    
+    private synchronized TagDictionary getTagDictionary() {
+        if (tagDictionary == null) {
+            tagDictionary = new TagDictionary(this::fetchAllTags);
+        }
+        return tagDictionary;
+    }
+    
+    private Map<String, Integer> fetchAllTags() throws IOException {
+        // Table: tag (singular), columns: tag_id, tag_name — small enough to fetch whole
+        String url = supabaseUrl + "/rest/v1/tag?select=tag_id,tag_name";
         
         Request request = createRequestBuilder().url(url).get().build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                String body = response.body().string();
-                System.out.println("  Supabase tag lookup: " + body);
-                Type listType = new TypeToken<List<TagIdRow>>(){}.getType();
-                List<TagIdRow> rows = gson.fromJson(body, listType);
+                List<TagRow> rows = JsonResponses.read(gson, response, TAG_ROW_LIST);
+                Map<String, Integer> tags = new HashMap<>();
                 if (rows != null) {
-                    return rows.stream().map(r -> r.tag_id).collect(Collectors.toList());
+                    for (TagRow row : rows) {
+                        if (row.tag_name != null) tags.put(row.tag_name, row.tag_id);
+                    }
                 }
+                return tags;
             }
-            return new ArrayList<>();
+            throw new IOException("Tag lookup failed: HTTP " + response.code());
+        }
+    }
+    
+    // ─── Embedded single-request queries (PostgREST resource embedding) ───
+    
+    /**
+     * Run an embedded query; returns null when the relationship isn't exposed
+     * by the schema so the caller can fall back to the multi-step path
+     */
+    private <T> List<T> fetchEmbedded(String key, PostgrestQuery query, Type listType) throws IOException {
+        if (unsupportedEmbeds.contains(key)) return null;
+        
+        Request request = createRequestBuilder().url(query.toUrl(supabaseUrl)).get().build();
+        
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
+            if (response.isSuccessful() && response.body() != null) {
+                List<T> result = JsonResponses.read(gson, response, listType);
+                return result != null ? result : new ArrayList<>();
+            }
+            String code = response.code() == 400 ? errorCode(response) : null;
+            if ("PGRST200".equals(code)) {
+                // Relationship not found in schema cache — stop trying this embed
+                System.out.println("  Supabase embedded query not supported for " + key + ", using multi-step path");
+                unsupportedEmbeds.add(key);
+            } else {
+                // Other rejections (e.g. a bad filter value) only affect this request
+                System.out.println("  Supabase embedded " + key + " HTTP " + response.code() + (code != null ? " " + code : ""));
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * PostgREST error code of an error response (e.g. PGRST200), or null if the body has none
+     */
+    private String errorCode(Response response) {
+        try {
+            JsonObject error = JsonResponses.read(gson, response, JsonObject.class);
+            JsonElement code = error != null ? error.get("code") : null;
+            return code != null && code.isJsonPrimitive() ? code.getAsString() : null;
+        } catch (IOException e) {
+            return null;
         }
     }
     
     // ─── Legislation (direct tag_id on legislation table) ───
     
     public List<Legislation> getLegislationByTags(List<String> tags) throws IOException {
+        return getLegislationByTags(tags, DEFAULT_LIMIT);
+    }
+    
+    public List<Legislation> getLegislationByTags(List<String> tags, int limit) throws IOException {
+        return flights.execute(SingleFlight.key("legislation", limit, tags), () -> queryLegislationByTags(tags, limit));
+    }
+    
+    private List<Legislation> queryLegislationByTags(List<String> tags, int limit) throws IOException {
         if (!isConfigured()) return new ArrayList<>();
         
+        PostgrestQuery query = PostgrestQuery.from("legislation")
+                .select("*")
+                .innerJoin("tag", "tag_name")
+                .in("tag.tag_name", tags)
+                .order("date_introduced", true)
+                .limit(limit);
+        List<Legislation> embedded = fetchEmbedded("legislation", query,
+                ModelTypes.LEGISLATION_LIST);
+        if (embedded != null) return embedded;
+        
         List<Integer> tagIds = getTagIdsByNames(tags);
         if (tagIds.isEmpty()) {
             System.out.println("  Supabase: no matching tag IDs found");
@@ -135,18 +207,16 @@ public class SupabaseClient {
         String tagIdsParam = tagIds.stream().map(String::valueOf).collect(Collectors.joining(","));
         // legislation has tag_id FK directly — no junction table
         String url = supabaseUrl + "/rest/v1/legislation?tag_id=in.(" + tagIdsParam 
-                + ")&order=date_introduced.desc&limit=20&select=*";
+                + ")&order=date_introduced.desc&limit=" + limit + "&select=*";
         
         System.out.println("  Supabase legislation query: tag_id in (" + tagIdsParam + ")");
         
         Request request = createRequestBuilder().url(url).get().build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                String body = response.body().string();
-                System.out.println("  Supabase legislation response length: " + body.length());
-                Type listType = new TypeToken<List<Legislation>>(){}.getType();
-                List<Legislation> result = gson.fromJson(body, listType);
+                List<Legislation> result = JsonResponses.read(gson, response, ModelTypes.LEGISLATION_LIST);
+                System.out.println("  Supabase legislation rows: " + (result != null ? result.size() : 0));
                 return result != null ? result : new ArrayList<>();
             }
             System.out.println("  Supabase legislation HTTP " + response.code());
@@ -157,8 +227,20 @@ public class SupabaseClient {
     // ─── Committees (direct tag_id on committees table) ───
     
     public List<Committee> getCommitteesByTags(List<String> tags) throws IOException {
+        return flights.execute(SingleFlight.key("committees", tags), () -> queryCommitteesByTags(tags));
+    }
+    
+    private List<Committee> queryCommitteesByTags(List<String> tags) throws IOException {
         if (!isConfigured()) return new ArrayList<>();
         
+        PostgrestQuery query = PostgrestQuery.from("committees")
+                .select("*")
+                .innerJoin("tag", "tag_name")
+                .in("tag.tag_name", tags);
+        List<Committee> embedded = fetchEmbedded("committees", query,
+                ModelTypes.COMMITTEE_LIST);
+        if (embedded != null) return embedded;
+        
         List<Integer> tagIds = getTagIdsByNames(tags);
         if (tagIds.isEmpty()) return new ArrayList<>();
         
@@ -167,10 +249,9 @@ public class SupabaseClient {
         
         Request request = createRequestBuilder().url(url).get().build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<Committee>>(){}.getType();
-                List<Committee> result = gson.fromJson(response.body().string(), listType);
+                List<Committee> result = JsonResponses.read(gson, response, ModelTypes.COMMITTEE_LIST);
                 return result != null ? result : new ArrayList<>();
             }
             return new ArrayList<>();
@@ -180,13 +261,45 @@ public class SupabaseClient {
     // ─── Hearings = committee_materials filtered through committees by tag ───
     
     public List<CommitteeMaterial> getHearingsByTags(List<String> tags) throws IOException {
+        return getHearingsByTags(tags, DEFAULT_LIMIT);
+    }
+    
+    public List<CommitteeMaterial> getHearingsByTags(List<String> tags, int limit) throws IOException {
+        return flights.execute(SingleFlight.key("hearings", limit, tags), () -> queryHearingsByTags(tags, limit));
+    }
+    
+    private List<CommitteeMaterial> queryHearingsByTags(List<String> tags, int limit) throws IOException {
         if (!isConfigured()) return new ArrayList<>();
         
+        // One request: committee_materials inner-joined to committees and their tag
+        Type listType = ModelTypes.HEARING_LIST;
+        PostgrestQuery viaCommittees = PostgrestQuery.from("committee_materials")
+                .select("*")
+                .innerJoin("committees", "tag_id," + PostgrestQuery.inner("tag", "tag_name"))
+                .in("committees.tag.tag_name", tags)
+                .order("event_date", true)
+                .limit(limit);
+        List<CommitteeMaterial> embedded = fetchEmbedded("hearings_committees", viaCommittees, listType);
+        if (embedded != null && !embedded.isEmpty()) return embedded;
+        
+        if (embedded != null) {
+            // No committee hearings: try hearings linked to legislation with these tags
+            PostgrestQuery viaLegislation = PostgrestQuery.from("committee_materials")
+                    .select("*")
+                    .innerJoin("legislation", "tag_id," + PostgrestQuery.inner("tag", "tag_name"))
+                    .in("legislation.tag.tag_name", tags)
+                    .order("event_date", true)
+                    .limit(limit);
+            List<CommitteeMaterial> viaLeg = fetchEmbedded("hearings_legislation", viaLegislation, listType);
+            if (viaLeg != null) return viaLeg;
+            return getHearingsViaLegislation(tags, limit);
+        }
+        
         // Step 1: get committees matching these tags
         List<Committee> committees = getCommitteesByTags(tags);
         if (committees.isEmpty()) {
             // Also try getting hearings linked to legislation with these tags
-            return getHearingsViaLegislation(tags);
+            return getHearingsViaLegislation(tags, limit);
         }
         
         // Step 2: get committee_materials for those committee IDs
@@ -195,21 +308,20 @@ public class SupabaseClient {
                 .collect(Collectors.joining(","));
         
         String url = supabaseUrl + "/rest/v1/committee_materials?com_id=in.(" + comIds 
-                + ")&order=event_date.desc&limit=20&select=*";
+                + ")&order=event_date.desc&limit=" + limit + "&select=*";
         
         Request request = createRequestBuilder().url(url).get().build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<CommitteeMaterial>>(){}.getType();
-                List<CommitteeMaterial> result = gson.fromJson(response.body().string(), listType);
+                List<CommitteeMaterial> result = JsonResponses.read(gson, response, listType);
                 return result != null ? result : new ArrayList<>();
             }
             return new ArrayList<>();
         }
     }
     
-    private List<CommitteeMaterial> getHearingsViaLegislation(List<String> tags) throws IOException {
+    private List<CommitteeMaterial> getHearingsViaLegislation(List<String> tags, int limit) throws IOException {
         // Get legislation IDs for these tags, then find hearings linked to that legislation
         List<Legislation> legislation = getLegislationByTags(tags);
         if (legislation.isEmpty()) return new ArrayList<>();
@@ -221,14 +333,13 @@ public class SupabaseClient {
         if (legIds.isEmpty()) return new ArrayList<>();
         
         String url = supabaseUrl + "/rest/v1/committee_materials?leg_id=in.(" + legIds 
-                + ")&order=event_date.desc&limit=20&select=*";
+                + ")&order=event_date.desc&limit=" + limit + "&select=*";
         
         Request request = createRequestBuilder().url(url).get().build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<CommitteeMaterial>>(){}.getType();
-                List<CommitteeMaterial> result = gson.fromJson(response.body().string(), listType);
+                List<CommitteeMaterial> result = JsonResponses.read(gson, response, ModelTypes.HEARING_LIST);
                 return result != null ? result : new ArrayList<>();
             }
             return new ArrayList<>();
@@ -238,27 +349,268 @@ public class SupabaseClient {
     // ─── Nominations (direct tag_id on nominations table) ───
     
     public List<Nomination> getNominationsByTags(List<String> tags) throws IOException {
+        return getNominationsByTags(tags, DEFAULT_LIMIT);
+    }
+    
+    public List<Nomination> getNominationsByTags(List<String> tags, int limit) throws IOException {
+        return flights.execute(SingleFlight.key("nominations", limit, tags), () -> queryNominationsByTags(tags, limit));
+    }
+    
+    private List<Nomination> queryNominationsByTags(List<String> tags, int limit) throws IOException {
         if (!isConfigured()) return new ArrayList<>();
         
+        PostgrestQuery query = PostgrestQuery.from("nominations")
+                .select("*")
+                .innerJoin("tag", "tag_name")
+                .in("tag.tag_name", tags)
+                .order("date_received", true)
+                .limit(limit);
+        List<Nomination> embedded = fetchEmbedded("nominations", query,
+                ModelTypes.NOMINATION_LIST);
+        if (embedded != null) return embedded;
+        
         List<Integer> tagIds = getTagIdsByNames(tags);
         if (tagIds.isEmpty()) return new ArrayList<>();
         
         String tagIdsParam = tagIds.stream().map(String::valueOf).collect(Collectors.joining(","));
         String url = supabaseUrl + "/rest/v1/nominations?tag_id=in.(" + tagIdsParam 
-                + ")&order=date_received.desc&limit=20&select=*";
+                + ")&order=date_received.desc&limit=" + limit + "&select=*";
         
         Request request = createRequestBuilder().url(url).get().build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                Type listType = new TypeToken<List<Nomination>>(){}.getType();
-                List<Nomination> result = gson.fromJson(response.body().string(), listType);
+                List<Nomination> result = JsonResponses.read(gson, response, ModelTypes.NOMINATION_LIST);
                 return result != null ? result : new ArrayList<>();
             }
             return new ArrayList<>();
         }
     }
     
+    // ─── Server-side counts (HEAD + Prefer: count=..., read from Content-Range) ───
+    
+    /**
+     * PostgREST counting strategies; ESTIMATED is cheap on large tables,
+     * EXACT is accurate for the small filtered sets the dashboard counts
+     */
+    public enum CountMode {
+        EXACT, PLANNED, ESTIMATED;
+        
+        String preferHeader() {
+            return "count=" + name().toLowerCase();
+        }
+    }
+    
+    /**
+     * Count rows matching a query without downloading them
+     */
+    public int count(PostgrestQuery query, CountMode mode) throws IOException {
+        try {
+            return countAsync(query, mode).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Count interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+    }
+    
+    /**
+     * Count rows asynchronously on the shared HTTP dispatcher
+     */
+    public CompletableFuture<Integer> countAsync(PostgrestQuery query, CountMode mode) {
+        Request request = createRequestBuilder()
+                .url(query.toUrl(supabaseUrl))
+                .header("Prefer", mode.preferHeader())
+                .head()
+                .build();
+        
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        Call countCall = client.newCall(request);
+        LoadHandle.track(countCall);
+        countCall.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(call.isCanceled() ? new LoadHandle.LoadCancelledException(e) : e);
+            }
+            
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    if (!response.isSuccessful()) {
+                        future.completeExceptionally(new IOException("Count failed: HTTP " + response.code()));
+                        return;
+                    }
+                    future.complete(parseContentRange(response.header("Content-Range")));
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * Parse the total from a Content-Range header such as "0-19/45"
+     * (a "*" total means the server didn't count)
+     */
+    static int parseContentRange(String contentRange) throws IOException {
+        if (contentRange == null || !contentRange.contains("/")) {
+            throw new IOException("Missing Content-Range header");
+        }
+        String total = contentRange.substring(contentRange.lastIndexOf('/') + 1).trim();
+        if (total.equals("*")) {
+            throw new IOException("Server did not return a count");
+        }
+        return Integer.parseInt(total);
+    }
+    
+    /**
+     * Dashboard totals for a tag set, counted server-side in parallel
+     * Counts that fail are left null
+     * @throws IOException If no count succeeded (e.g. offline), so the empty result isn't cached
+     * @throws LoadHandle.LoadCancelledException If the load was cancelled
+     */
+    public DashboardStats getDashboardStats(List<String> tags) throws IOException {
+        if (!isConfigured()) return null;
+        
+        String since = LocalDate.now().minusDays(30).toString();
+        CompletableFuture<Integer> legislation = countByTags("legislation", "tag", tags, null, null);
+        CompletableFuture<Integer> committees = countByTags("committees", "tag", tags, null, null);
+        CompletableFuture<Integer> nominations = countByTags("nominations", "tag", tags, null, null);
+        CompletableFuture<Integer> recentLegislation = countByTags("legislation", "tag", tags, "date_introduced", since);
+        
+        // Same rule as the hearings list: hearings of tagged committees, or if there are none,
+        // hearings linked to tagged legislation
+        CompletableFuture<Integer> viaCommittees = countByTags("committee_materials", "committees.tag", tags, null, null);
+        CompletableFuture<String> hearingsPath = viaCommittees
+                .thenApply(count -> count != null && count == 0 ? "legislation.tag" : "committees.tag");
+        CompletableFuture<Integer> hearings = viaCommittees.thenCompose(count -> count != null && count == 0
+                ? countByTags("committee_materials", "legislation.tag", tags, null, null)
+                : CompletableFuture.completedFuture(count));
+        CompletableFuture<Integer> recentHearings = hearingsPath
+                .thenCompose(path -> countByTags("committee_materials", path, tags, "event_date", since));
+        
+        DashboardStats stats = new DashboardStats();
+        stats.setTotalLegislation(joinCount(legislation));
+        stats.setTotalCommittees(joinCount(committees));
+        stats.setTotalNominations(joinCount(nominations));
+        stats.setTotalHearings(joinCount(hearings));
+        stats.setRecentLegislationCount(joinCount(recentLegislation));
+        stats.setRecentHearingsCount(joinCount(recentHearings));
+        
+        if (stats.getTotalLegislation() == null && stats.getTotalCommittees() == null
+                && stats.getTotalNominations() == null && stats.getTotalHearings() == null
+                && stats.getRecentLegislationCount() == null && stats.getRecentHearingsCount() == null) {
+            throw new IOException("No dashboard count succeeded");
+        }
+        return stats;
+    }
+    
+    /**
+     * Wait for a count, rethrowing cancellation of the load
+     */
+    private static Integer joinCount(CompletableFuture<Integer> count) throws IOException {
+        try {
+            return count.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof LoadHandle.LoadCancelledException cancelled) {
+                throw cancelled;
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Count rows of a table whose (possibly nested) tag matches the tag names
+     * @param tagPath "tag" for tables with tag_id, "committees.tag" or "legislation.tag" for committee_materials
+     * @return Completes with null if the count failed, exceptionally only if the load was cancelled
+     */
+    private CompletableFuture<Integer> countByTags(String table, String tagPath, List<String> tags,
+                                                   String sinceColumn, String since) {
+        PostgrestQuery query = PostgrestQuery.from(table);
+        if (tagPath.contains(".")) {
+            String parent = tagPath.substring(0, tagPath.indexOf('.'));
+            query.innerJoin(parent, PostgrestQuery.inner("tag", "tag_name"));
+        } else {
+            query.innerJoin("tag", "tag_name");
+        }
+        query.in(tagPath + ".tag_name", tags);
+        if (sinceColumn != null) {
+            query.gte(sinceColumn, since);
+        }
+        
+        return countAsync(query, CountMode.EXACT)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof LoadHandle.LoadCancelledException) {
+                        throw new CompletionException(cause);
+                    }
+                    System.out.println("  Supabase count on " + table + " failed: " + cause.getMessage());
+                    return null;
+                });
+    }
+    
+    // ─── Dashboard bundle (optional RPC function returning every section) ───
+    
+    /**
+     * Call the dashboard_bundle RPC function if the project defines it
+     * @return The bundle, or null when the function isn't available
+     */
+    public DashboardBundle getDashboardBundle(List<String> tags) throws IOException {
+        if (!isConfigured() || !bundleRpcAvailable) return null;
+        
+        String json = gson.toJson(Map.of("tag_names", tags));
+        RequestBody body = RequestBody.create(json, MediaType.get("application/json"));
+        Request request = createRequestBuilder()
+                .url(supabaseUrl + "/rest/v1/rpc/dashboard_bundle")
+                .post(body)
+                .build();
+        
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
+            if (response.isSuccessful() && response.body() != null) {
+                return DashboardBundleReader.read(gson, response.body().charStream());
+            }
+            if (response.code() == 404) {
+                // PGRST202: function not found — don't ask again this session
+                System.out.println("  Supabase dashboard_bundle RPC not available, using per-section queries");
+                bundleRpcAvailable = false;
+            }
+            return null;
+        }
+    }
+    
+    // ─── Raw rows (local replica sync) ───
+    
+    /**
+     * Fetch one page of raw rows for the local replica
+     * @return The rows, or null if the server rejected the query (HTTP 400, e.g. a filter
+     *         on a column the table doesn't have)
+     */
+    public List<JsonObject> fetchRows(PostgrestQuery query) throws IOException {
+        if (!isConfigured()) throw new IOException("Supabase not configured");
+        
+        Request request = createRequestBuilder().url(query.toUrl(supabaseUrl)).get().build();
+        
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
+            if (response.isSuccessful() && response.body() != null) {
+                JsonArray array = JsonResponses.read(gson, response, JsonArray.class);
+                List<JsonObject> rows = new ArrayList<>();
+                if (array != null) {
+                    for (JsonElement element : array) {
+                        if (element.isJsonObject()) rows.add(element.getAsJsonObject());
+                    }
+                }
+                return rows;
+            }
+            if (response.code() == 400) {
+                return null;
+            }
+            throw new IOException("Supabase " + query + " HTTP " + response.code());
+        }
+    }
+    
     // ─── Auth ───
     
     public AuthResponse login(String email, String password) throws IOException {
@@ -270,9 +622,9 @@ public class SupabaseClient {
         
         Request request = createRequestBuilder().url(url).post(body).build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                AuthResponse authResponse = gson.fromJson(response.body().string(), AuthResponse.class);
+                AuthResponse authResponse = JsonResponses.read(gson, response, AuthResponse.class);
                 if (authResponse != null && authResponse.getAccessToken() != null) {
                     setAuthToken(authResponse.getAccessToken());
                 }
@@ -291,9 +643,9 @@ public class SupabaseClient {
         
         Request request = createRequestBuilder().url(url).post(body).build();
         
-        try (Response response = client.newCall(request).execute()) {
+        try (Response response = LoadHandle.execute(client.newCall(request))) {
             if (response.isSuccessful() && response.body() != null) {
-                return gson.fromJson(response.body().string(), AuthResponse.class);
+                return JsonResponses.read(gson, response, AuthResponse.class);
             }
             throw new IOException("Registration failed: " + response.code());
         }
@@ -301,7 +653,8 @@ public class SupabaseClient {
     
     // ─── Helper DTOs for Supabase JSON parsing ───
     
-    private static class TagIdRow {
+    private static class TagRow {
         int tag_id;
+        String tag_name;
     }
 }
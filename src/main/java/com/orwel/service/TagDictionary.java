@@ -0,0 +1,104 @@
+package com.orwel.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cached tag_name → tag_id dictionary for the Supabase tag table
+ * Loaded from the local replica's copy of the table once it has synced, otherwise from Supabase;
+ * read concurrently without locking, and refreshed in the background once the TTL has passed.
+ * The replica is the only copy on disk, so names resolve here as they do in replica-served lists
+ */
+public class TagDictionary {
+    private static final long TTL_MS = TimeUnit.MINUTES.toMillis(30);
+    // Minimum gap between reloads triggered by unknown tag names
+    private static final long MISS_RELOAD_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "tag-dictionary-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Callable<Map<String, Integer>> remoteLoader;
+    private final Map<String, Integer> tagIds = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile long loadedAt = 0;
+    private volatile boolean loadedFromReplica = false;
+
+    /**
+     * @param remoteLoader Fetches the full tag table (tag_name → tag_id) from the server
+     */
+    public TagDictionary(Callable<Map<String, Integer>> remoteLoader) {
+        this.remoteLoader = remoteLoader;
+    }
+
+    /**
+     * Resolve tag names to tag IDs
+     * Served from memory in steady state; only unknown names or an empty dictionary
+     * cause a synchronous reload, and an expired dictionary is refreshed in the background
+     */
+    public List<Integer> resolve(List<String> tagNames) throws Exception {
+        boolean missing = tagNames.stream().anyMatch(name -> !tagIds.containsKey(name));
+        long age = System.currentTimeMillis() - loadedAt;
+
+        // Switch to the replica's copy as soon as it has synced (a local read)
+        boolean replicaNewlyReady = !loadedFromReplica && LocalReplica.isReady(LocalReplica.Table.TAG);
+        if (tagIds.isEmpty() || replicaNewlyReady || (missing && age > MISS_RELOAD_INTERVAL_MS)) {
+            reload();
+        } else if (age > TTL_MS) {
+            refreshInBackground();
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        for (String name : tagNames) {
+            Integer id = tagIds.get(name);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Number of cached tags
+     */
+    public int size() {
+        return tagIds.size();
+    }
+
+    private synchronized void reload() throws Exception {
+        boolean fromReplica = LocalReplica.isReady(LocalReplica.Table.TAG);
+        Map<String, Integer> fresh = fromReplica ? LocalReplica.getTagIds() : remoteLoader.call();
+        if (fresh == null) {
+            return;
+        }
+        tagIds.putAll(fresh);
+        tagIds.keySet().retainAll(fresh.keySet());
+        loadedAt = System.currentTimeMillis();
+        loadedFromReplica = fromReplica;
+        System.out.println("  Tag dictionary loaded" + (fromReplica ? " from local replica" : "") + ": " + fresh.size() + " tags");
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                reload();
+            } catch (Exception e) {
+                System.err.println("Tag dictionary refresh failed: " + e.getMessage());
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+}
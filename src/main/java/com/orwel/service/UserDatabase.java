@@ -1,26 +1,31 @@
 package com.orwel.service;
 
 import com.orwel.config.DatabaseConfig;
+import com.orwel.config.SqlRunner;
 import com.orwel.model.User;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * SQLite database service for local user data storage
  * Handles user credentials and commodity tags
  */
 public class UserDatabase {
+    // Unit separator (char(31)): can't appear in a tag typed by the user
+    private static final String TAG_SEPARATOR = "\u001F";
     
     /**
      * Initialize database tables
      * Creates users and commodity_tags tables if they don't exist
      */
     public static void initializeDatabase() throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
         // Create users table
         String createUsersTable = """
             CREATE TABLE IF NOT EXISTS users (
@@ -48,11 +53,21 @@ public class UserDatabase {
             )
         """;
         
-        try (Statement stmt = conn.createStatement()) {
-            stmt.execute(createUsersTable);
-            stmt.execute(createTagsTable);
-            System.out.println("Database tables initialized successfully");
-        }
+        DatabaseConfig.write(conn -> {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(createUsersTable);
+                stmt.execute(createTagsTable);
+                // Old copy of the Supabase tag table, superseded by replica_tag
+                stmt.execute("DROP TABLE IF EXISTS supabase_tags");
+                System.out.println("Database tables initialized successfully");
+            }
+            
+            // Full-text index over fetched news and legislation
+            LocalSearchIndex.initialize(conn);
+            // Offline replica of the Supabase tables
+            LocalReplica.initialize(conn);
+            return null;
+        });
         
         // Create demo user if it doesn't exist
         createDemoUserIfNotExists();
@@ -93,8 +108,6 @@ public class UserDatabase {
      * Save or update user in database
      */
     public static void saveUser(User user) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
         String sql = """
             INSERT INTO users (username, email, password, first_name, last_name, occupation, has_stocks, jwt_token)
             VALUES (?, ?, ?, ?, ?, ?, ?, ?)
@@ -108,19 +121,16 @@ public class UserDatabase {
                 jwt_token = excluded.jwt_token
         """;
         
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, user.getUsername());
-            pstmt.setString(2, user.getEmail());
-            pstmt.setString(3, user.getPassword());
-            pstmt.setString(4, user.getFirstName());
-            pstmt.setString(5, user.getLastName());
-            pstmt.setString(6, user.getOccupation());
-            pstmt.setInt(7, (user.getHasStocks() != null && user.getHasStocks()) ? 1 : 0);
-            pstmt.setString(8, null); // JWT token will be set separately
-            
-            pstmt.executeUpdate();
-            System.out.println("User saved to database: " + user.getEmail());
-        }
+        SqlRunner.update(sql,
+                user.getUsername(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getOccupation(),
+                user.getHasStocks() != null && user.getHasStocks(),
+                null);  // JWT token will be set separately
+        System.out.println("User saved to database: " + user.getEmail());
         
         // Save commodity tags
         if (user.getCommodityTags() != null && !user.getCommodityTags().isEmpty()) {
@@ -132,249 +142,187 @@ public class UserDatabase {
      * Get user by email
      */
     public static User getUserByEmail(String email) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
-        String sql = "SELECT * FROM users WHERE email = ?";
-        
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, email);
-            ResultSet rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                User user = new User();
-                user.setId(rs.getLong("id"));
-                user.setUsername(rs.getString("username"));
-                user.setEmail(rs.getString("email"));
-                user.setPassword(rs.getString("password"));
-                user.setFirstName(rs.getString("first_name"));
-                user.setLastName(rs.getString("last_name"));
-                user.setOccupation(rs.getString("occupation"));
-                user.setHasStocks(rs.getInt("has_stocks") == 1);
-                
-                // Load commodity tags
-                user.setCommodityTags(getCommodityTags(email));
-                
-                return user;
-            }
-        }
-        
-        return null;
+        return getSingleUser("u.email = ?", email);
     }
     
     /**
      * Get user by username
      */
     public static User getUserByUsername(String username) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
-        String sql = "SELECT * FROM users WHERE username = ?";
-        
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, username);
-            ResultSet rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                User user = new User();
-                user.setId(rs.getLong("id"));
-                user.setUsername(rs.getString("username"));
-                user.setEmail(rs.getString("email"));
-                user.setPassword(rs.getString("password"));
-                user.setFirstName(rs.getString("first_name"));
-                user.setLastName(rs.getString("last_name"));
-                user.setOccupation(rs.getString("occupation"));
-                user.setHasStocks(rs.getInt("has_stocks") == 1);
-                
-                // Load commodity tags
-                user.setCommodityTags(getCommodityTags(user.getEmail()));
-                
-                return user;
-            }
-        }
+        return getSingleUser("u.username = ?", username);
+    }
+    
+    /**
+     * Load one user together with their tags
+     */
+    private static User getSingleUser(String condition, String value) throws SQLException {
+        String sql = userQuery("WHERE " + condition);
         
-        return null;
+        return SqlRunner.queryOne(sql, UserDatabase::mapUser, value);
     }
     
     /**
      * Save JWT token for user
      */
     public static void saveJwtToken(String email, String token) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
         String sql = "UPDATE users SET jwt_token = ? WHERE email = ?";
         
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, token);
-            pstmt.setString(2, email);
-            pstmt.executeUpdate();
-        }
+        SqlRunner.update(sql, token, email);
     }
     
     /**
      * Get JWT token for user
      */
     public static String getJwtToken(String email) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
         String sql = "SELECT jwt_token FROM users WHERE email = ?";
         
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, email);
-            ResultSet rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getString("jwt_token");
-            }
-        }
-        
-        return null;
+        return SqlRunner.queryOne(sql, rs -> rs.getString("jwt_token"), email);
     }
     
     /**
      * Save commodity tags for user
+     * Only the difference from the stored tags is written: removed tags are deleted and new ones
+     * inserted, each as one batch, all in a single transaction
      */
     public static void saveCommodityTags(String email, List<String> tags) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
-        // First get user ID
-        Long userId = getUserIdByEmail(email);
-        if (userId == null) {
-            throw new SQLException("User not found: " + email);
-        }
-        
-        // Delete existing tags
-        String deleteSql = "DELETE FROM commodity_tags WHERE user_id = ?";
-        try (PreparedStatement pstmt = conn.prepareStatement(deleteSql)) {
-            pstmt.setLong(1, userId);
-            pstmt.executeUpdate();
+        Set<String> wanted = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.trim().isEmpty()) {
+                wanted.add(tag.trim());
+            }
         }
         
-        // Insert new tags
-        String insertSql = "INSERT INTO commodity_tags (user_id, tag_name) VALUES (?, ?)";
-        try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
-            for (String tag : tags) {
-                if (tag != null && !tag.trim().isEmpty()) {
-                    pstmt.setLong(1, userId);
-                    pstmt.setString(2, tag.trim());
-                    pstmt.executeUpdate();
+        String selectSql = """
+            SELECT u.id, ct.tag_name
+            FROM users u
+            LEFT JOIN commodity_tags ct ON ct.user_id = u.id
+            WHERE u.email = ?
+        """;
+        String deleteSql = "DELETE FROM commodity_tags WHERE user_id = ? AND tag_name = ?";
+        String insertSql = "INSERT OR IGNORE INTO commodity_tags (user_id, tag_name) VALUES (?, ?)";
+        
+        int[] changes = DatabaseConfig.transaction(conn -> {
+            // User ID and current tags in one query
+            Long[] userId = { null };
+            Set<String> stored = new HashSet<>();
+            SqlRunner.queryEach(conn, selectSql, rs -> {
+                userId[0] = rs.getLong("id");
+                return rs.getString("tag_name");
+            }, tagName -> {
+                if (tagName != null) {
+                    stored.add(tagName);
                 }
+            }, email);
+            if (userId[0] == null) {
+                throw new SQLException("User not found: " + email);
             }
-        }
+            
+            // Delete tags that were removed
+            List<Object[]> deletes = new ArrayList<>();
+            for (String tag : stored) {
+                if (!wanted.contains(tag)) {
+                    deletes.add(new Object[] { userId[0], tag });
+                }
+            }
+            SqlRunner.batch(conn, deleteSql, deletes);
+            
+            // Insert tags that are new
+            List<Object[]> inserts = new ArrayList<>();
+            for (String tag : wanted) {
+                if (!stored.contains(tag)) {
+                    inserts.add(new Object[] { userId[0], tag });
+                }
+            }
+            SqlRunner.batch(conn, insertSql, inserts);
+            return new int[] { inserts.size(), deletes.size() };
+        });
         
-        System.out.println("Saved " + tags.size() + " commodity tags for user: " + email);
+        System.out.println("Saved " + wanted.size() + " commodity tags for user: " + email
+                + " (" + changes[0] + " added, " + changes[1] + " removed)");
     }
     
     /**
      * Get commodity tags for user
      */
     public static List<String> getCommodityTags(String email) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        List<String> tags = new ArrayList<>();
-        
         String sql = """
-            SELECT ct.tag_name 
+            SELECT ct.tag_name
             FROM commodity_tags ct
             JOIN users u ON ct.user_id = u.id
             WHERE u.email = ?
             ORDER BY ct.tag_name
         """;
         
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, email);
-            ResultSet rs = pstmt.executeQuery();
-            
-            while (rs.next()) {
-                tags.add(rs.getString("tag_name"));
-            }
-        }
-        
-        return tags;
-    }
-    
-    /**
-     * Get user ID by email
-     */
-    private static Long getUserIdByEmail(String email) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
-        String sql = "SELECT id FROM users WHERE email = ?";
-        
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, email);
-            ResultSet rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getLong("id");
-            }
-        }
-        
-        return null;
+        return SqlRunner.queryList(sql, rs -> rs.getString("tag_name"), email);
     }
     
     /**
      * Check if user exists by email
      */
     public static boolean userExists(String email) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
-        String sql = "SELECT COUNT(*) FROM users WHERE email = ?";
-        
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, email);
-            ResultSet rs = pstmt.executeQuery();
-            
-            if (rs.next()) {
-                return rs.getInt(1) > 0;
-            }
-        }
+        String sql = "SELECT 1 FROM users WHERE email = ?";
         
-        return false;
+        return SqlRunner.queryOne(sql, rs -> Boolean.TRUE, email) != null;
     }
     
     /**
      * Delete user by email
      */
     public static void deleteUser(String email) throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
-        
         String sql = "DELETE FROM users WHERE email = ?";
         
-        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, email);
-            pstmt.executeUpdate();
-            System.out.println("User deleted: " + email);
-        }
+        SqlRunner.update(sql, email);
+        System.out.println("User deleted: " + email);
     }
     
     /**
      * Get all users
      */
     public static List<User> getAllUsers() throws SQLException {
-        Connection conn = DatabaseConfig.getConnection();
         List<User> users = new ArrayList<>();
-        
-        String sql = "SELECT * FROM users";
-        
-        try (Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            
-            while (rs.next()) {
-                User user = new User();
-                user.setId(rs.getLong("id"));
-                user.setUsername(rs.getString("username"));
-                user.setEmail(rs.getString("email"));
-                user.setPassword(rs.getString("password"));
-                user.setFirstName(rs.getString("first_name"));
-                user.setLastName(rs.getString("last_name"));
-                user.setOccupation(rs.getString("occupation"));
-                user.setHasStocks(rs.getInt("has_stocks") == 1);
-                
-                // Load commodity tags
-                user.setCommodityTags(getCommodityTags(user.getEmail()));
-                
-                users.add(user);
-            }
-        }
-        
+        forEachUser(users::add);
         return users;
     }
+    
+    /**
+     * Visit every user, with tags, as rows are read, without building the whole list
+     * The action runs while a read connection is held, so it should not block on other work
+     */
+    public static void forEachUser(Consumer<User> action) throws SQLException {
+        SqlRunner.queryEach(userQuery(""), UserDatabase::mapUser, action);
+    }
+    
+    /**
+     * Users joined with their tags, one row per user; the tags are folded into one column
+     * separated by {@link #TAG_SEPARATOR}
+     */
+    private static String userQuery(String where) {
+        return "SELECT u.id, u.username, u.email, u.password, u.first_name, u.last_name,"
+                + " u.occupation, u.has_stocks,"
+                + " group_concat(ct.tag_name, char(31) ORDER BY ct.tag_name) AS tags"
+                + " FROM users u LEFT JOIN commodity_tags ct ON ct.user_id = u.id "
+                + where
+                + " GROUP BY u.id ORDER BY u.id";
+    }
+    
+    /**
+     * Map the current row of a {@link #userQuery} result
+     */
+    private static User mapUser(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setId(rs.getLong("id"));
+        user.setUsername(rs.getString("username"));
+        user.setEmail(rs.getString("email"));
+        user.setPassword(rs.getString("password"));
+        user.setFirstName(rs.getString("first_name"));
+        user.setLastName(rs.getString("last_name"));
+        user.setOccupation(rs.getString("occupation"));
+        user.setHasStocks(rs.getInt("has_stocks") == 1);
+        
+        String tags = rs.getString("tags");
+        user.setCommodityTags(tags == null
+                ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(tags.split(TAG_SEPARATOR))));
+        return user;
+    }
 }
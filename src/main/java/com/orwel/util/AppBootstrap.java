@@ -0,0 +1,91 @@
+package com.orwel.util;
+
+import com.orwel.config.AppConfig;
+import com.orwel.service.ApiService;
+import com.orwel.service.SupabaseClient;
+import com.orwel.service.UserDatabase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Startup work that must finish before the first screen is usable
+ * Config loading, database initialization and client warm-up have no dependencies on each
+ * other, so they run in parallel on the {@link TaskScheduler} while the FX thread shows the splash.
+ * A failed phase is logged and startup continues, as it did when these ran inline
+ */
+public class AppBootstrap {
+
+    /**
+     * Outcome of one startup phase
+     * @param offsetMs When the phase started, relative to the start of the bootstrap
+     * @param error What the phase threw, or null if it succeeded
+     */
+    public record PhaseTiming(String name, long offsetMs, long durationMs, Throwable error) {
+        @Override
+        public String toString() {
+            return String.format("  %-10s +%4d ms  %5d ms%s", name, offsetMs, durationMs,
+                    error == null ? "" : "  FAILED: " + error.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Phase {
+        void run() throws Exception;
+    }
+
+    /**
+     * Start all phases off the FX thread
+     * @return Completes with the timing of each phase once all have finished; never completes exceptionally
+     */
+    public static CompletableFuture<List<PhaseTiming>> run() {
+        long started = System.nanoTime();
+        List<CompletableFuture<PhaseTiming>> phases = List.of(
+                phase("config", started, AppConfig::loadConfig),
+                phase("database", started, UserDatabase::initializeDatabase),
+                phase("clients", started, AppBootstrap::warmUpClients));
+
+        return CompletableFuture.allOf(phases.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            List<PhaseTiming> timings = new ArrayList<>();
+            for (CompletableFuture<PhaseTiming> phase : phases) {
+                timings.add(phase.join());
+            }
+            System.out.println("Bootstrap finished in " + (System.nanoTime() - started) / 1_000_000 + " ms");
+            for (PhaseTiming timing : timings) {
+                System.out.println(timing);
+            }
+            return timings;
+        });
+    }
+
+    private static CompletableFuture<PhaseTiming> phase(String name, long bootstrapStarted, Phase work) {
+        return CompletableFuture.supplyAsync(() -> {
+            long started = System.nanoTime();
+            Throwable error = null;
+            StartupTimeline.Span span = StartupTimeline.begin("bootstrap." + name);
+            try {
+                work.run();
+            } catch (Exception | LinkageError e) {
+                // LinkageError: a failed static initializer surfaces as ExceptionInInitializerError
+                System.err.println("Startup phase '" + name + "' failed: " + e.getMessage());
+                error = e;
+            } finally {
+                span.close();
+            }
+            long finished = System.nanoTime();
+            return new PhaseTiming(name, (started - bootstrapStarted) / 1_000_000,
+                    (finished - started) / 1_000_000, error);
+        }, TaskScheduler.executor());
+    }
+
+    /**
+     * Build the HTTP clients and Gson instances now rather than in the first controller's field initializer
+     */
+    private static void warmUpClients() {
+        ApiService.getInstance();
+        if (AppConfig.isSupabaseConfigured()) {
+            SupabaseClient.getInstance();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.orwel.util;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Loads dashboard sections concurrently on the shared {@link TaskScheduler} executor.
+ * Each section is published to the FX thread as soon as its data lands,
+ * so the full dashboard costs roughly one round trip instead of one per section.
+ */
+public class DashboardLoader {
+    private static final long DEFAULT_DEADLINE_MS = 8000;
+
+    private final List<Section<?>> sections = new ArrayList<>();
+    private final Map<String, Long> latencies = new LinkedHashMap<>();
+    private final AtomicBoolean expired = new AtomicBoolean(false);
+    private long deadlineMs = DEFAULT_DEADLINE_MS;
+    private LoadHandle handle;
+
+    /**
+     * Register a section to load
+     * @param name Section name used in latency reports
+     * @param fetch Blocking call that fetches the section data
+     * @param onLoaded Called on the FX thread with non-null, non-empty results
+     */
+    public <T> DashboardLoader section(String name, Callable<T> fetch, Consumer<T> onLoaded) {
+        sections.add(new Section<>(name, fetch, onLoaded));
+        return this;
+    }
+
+    /**
+     * Set the overall deadline; sections finishing later are discarded
+     */
+    public DashboardLoader deadline(long millis) {
+        this.deadlineMs = millis;
+        return this;
+    }
+
+    /**
+     * Tie the load to a handle: its HTTP calls are aborted and its results dropped once the handle is cancelled
+     */
+    public DashboardLoader cancelWith(LoadHandle handle) {
+        this.handle = handle;
+        return this;
+    }
+
+    private <T> T fetch(Callable<T> task) throws Exception {
+        return handle != null ? handle.call(task) : task.call();
+    }
+
+    private boolean cancelled() {
+        return handle != null && handle.isCancelled();
+    }
+
+    /**
+     * Start all sections concurrently
+     * @return Future completing with per-section latency in milliseconds (-1 for sections that missed the deadline)
+     */
+    public CompletableFuture<Map<String, Long>> load() {
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Section<?> section : sections) {
+            futures.add(CompletableFuture.runAsync(() -> section.run(start), TaskScheduler.executor()));
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .orTimeout(deadlineMs, TimeUnit.MILLISECONDS)
+                .handle((ignored, error) -> {
+                    if (error instanceof TimeoutException) {
+                        expired.set(true);
+                        System.err.println("Dashboard load exceeded deadline of " + deadlineMs + " ms");
+                    }
+                    Map<String, Long> report = new LinkedHashMap<>();
+                    synchronized (latencies) {
+                        for (Section<?> section : sections) {
+                            report.put(section.name, latencies.getOrDefault(section.name, -1L));
+                        }
+                    }
+                    System.out.println("Dashboard loaded in " + elapsedMs(start) + " ms " + report);
+                    return report;
+                });
+    }
+
+    /**
+     * Try one batched request for every section first; fall back to the
+     * concurrent per-section load when the batched path returns nothing
+     * @param fetchBundle Blocking call returning all sections, or null if unavailable
+     * @param onLoaded Called on the FX thread with the bundle
+     */
+    public <B> CompletableFuture<Map<String, Long>> loadBatched(Callable<B> fetchBundle, Consumer<B> onLoaded) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return fetch(fetchBundle);
+                    } catch (Exception e) {
+                        System.err.println("Dashboard bundle failed: " + e.getMessage());
+                        return null;
+                    }
+                }, TaskScheduler.executor())
+                .thenCompose(bundle -> {
+                    if (bundle == null && !cancelled()) {
+                        return load();
+                    }
+                    if (bundle == null) {
+                        return CompletableFuture.completedFuture(new LinkedHashMap<String, Long>());
+                    }
+                    long elapsed = elapsedMs(start);
+                    Platform.runLater(() -> {
+                        if (!cancelled()) onLoaded.accept(bundle);
+                    });
+                    System.out.println("Dashboard bundle loaded in " + elapsed + " ms");
+                    Map<String, Long> report = new LinkedHashMap<>();
+                    report.put("bundle", elapsed);
+                    return CompletableFuture.completedFuture(report);
+                });
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private class Section<T> {
+        private final String name;
+        private final Callable<T> fetch;
+        private final Consumer<T> onLoaded;
+
+        Section(String name, Callable<T> fetch, Consumer<T> onLoaded) {
+            this.name = name;
+            this.fetch = fetch;
+            this.onLoaded = onLoaded;
+        }
+
+        void run(long start) {
+            T result = null;
+            try {
+                result = DashboardLoader.this.fetch(fetch);
+            } catch (Exception e) {
+                // Offline or backend error - section keeps its placeholder
+                if (!cancelled()) {
+                    System.err.println("Dashboard section '" + name + "' failed: " + e.getMessage());
+                }
+            }
+
+            long elapsed = elapsedMs(start);
+            if (expired.get()) {
+                System.err.println("Dashboard section '" + name + "' arrived after deadline (" + elapsed + " ms)");
+                return;
+            }
+            synchronized (latencies) {
+                latencies.put(name, elapsed);
+            }
+
+            if (result != null && !(result instanceof Collection<?> items && items.isEmpty())) {
+                T loaded = result;
+                Platform.runLater(() -> {
+                    if (!cancelled()) onLoaded.accept(loaded);
+                });
+            }
+        }
+    }
+}
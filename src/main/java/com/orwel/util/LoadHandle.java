@@ -0,0 +1,143 @@
+package com.orwel.util;
+
+import okhttp3.Call;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Handle for one cancellable background load
+ * HTTP calls made while the load runs are tracked, so cancelling the handle aborts them
+ * and frees their connections; results of a cancelled load are discarded by {@link LoadScope}
+ */
+public class LoadHandle {
+    private static final ThreadLocal<LoadHandle> current = new ThreadLocal<>();
+    // Calls made by the innermost call() on this thread; a handle can run on several threads at once
+    private static final ThreadLocal<List<Call>> invocationCalls = new ThreadLocal<>();
+
+    private final long generation;
+    private final List<Call> calls = new ArrayList<>();
+    private volatile boolean cancelled;
+
+    LoadHandle(long generation) {
+        this.generation = generation;
+    }
+
+    /**
+     * The load running on this thread, or null outside of a load
+     */
+    public static LoadHandle current() {
+        return current.get();
+    }
+
+    /**
+     * Whether the load running on this thread has been cancelled
+     */
+    public static boolean isCurrentCancelled() {
+        LoadHandle handle = current.get();
+        return handle != null && handle.isCancelled();
+    }
+
+    /**
+     * Execute an HTTP call as part of the current load (if any), so it can be cancelled with it
+     * @throws LoadCancelledException If the call was aborted because its load was cancelled
+     */
+    public static Response execute(Call call) throws IOException {
+        track(call);
+        try {
+            return call.execute();
+        } catch (IOException e) {
+            if (call.isCanceled()) {
+                throw new LoadCancelledException(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Attach a call (e.g. one about to be enqueued) to the current load, if any
+     */
+    public static void track(Call call) {
+        LoadHandle handle = current.get();
+        if (handle != null) {
+            handle.add(call);
+        }
+    }
+
+    /**
+     * Cancel the load: in-flight calls are aborted and its result will be ignored
+     */
+    public void cancel() {
+        List<Call> toCancel;
+        synchronized (calls) {
+            if (cancelled) return;
+            cancelled = true;
+            toCancel = new ArrayList<>(calls);
+            calls.clear();
+        }
+        toCancel.forEach(Call::cancel);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Sequence number of this load within its scope slot; higher means newer
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Run a task with this handle as the current load on the calling thread
+     */
+    public <T> T call(Callable<T> task) throws Exception {
+        if (cancelled) {
+            throw new LoadCancelledException(null);
+        }
+        LoadHandle previous = current.get();
+        List<Call> previousCalls = invocationCalls.get();
+        List<Call> ownCalls = new ArrayList<>();
+        current.set(this);
+        invocationCalls.set(ownCalls);
+        try {
+            return task.call();
+        } finally {
+            current.set(previous);
+            invocationCalls.set(previousCalls);
+            // Only this invocation's calls are done; others sharing the handle may still be in flight
+            synchronized (calls) {
+                calls.removeAll(ownCalls);
+            }
+        }
+    }
+
+    private void add(Call call) {
+        synchronized (calls) {
+            if (!cancelled) {
+                calls.add(call);
+                List<Call> ownCalls = invocationCalls.get();
+                if (ownCalls != null) {
+                    ownCalls.add(call);
+                }
+                return;
+            }
+        }
+        call.cancel();
+    }
+
+    /**
+     * Thrown when an HTTP call is aborted because its load was cancelled
+     */
+    public static class LoadCancelledException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public LoadCancelledException(IOException cause) {
+            super("Load cancelled", cause);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.orwel.util;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Cancellable loads tied to a controller's lifetime
+ * Each load runs in a named slot (e.g. "news"); starting a new load in a slot cancels the
+ * previous one and bumps the slot's generation, so only the newest result reaches the UI.
+ * {@link NavigationHelper} cancels every live scope before switching screens
+ */
+public class LoadScope {
+    private static final Set<LoadScope> liveScopes = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final Map<String, LoadHandle> slots = new HashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+    private volatile boolean closed;
+
+    public LoadScope() {
+        synchronized (liveScopes) {
+            liveScopes.add(this);
+        }
+    }
+
+    /**
+     * Cancel the loads of every live scope (called before navigating to another screen)
+     */
+    public static void cancelAll() {
+        List<LoadScope> scopes;
+        synchronized (liveScopes) {
+            scopes = new ArrayList<>(liveScopes);
+            liveScopes.clear();
+        }
+        scopes.forEach(LoadScope::close);
+    }
+
+    /**
+     * Start a load in a slot, superseding the slot's previous load
+     * @param onSuccessFx Called on the FX thread, only if this is still the slot's newest load
+     * @param onErrorFx Called on the FX thread for failures of a load that wasn't cancelled
+     */
+    public <T> LoadHandle run(String slot, Callable<T> task, Consumer<T> onSuccessFx, Consumer<Exception> onErrorFx) {
+        LoadHandle handle = begin(slot);
+        TaskScheduler.runInBackground(() -> handle.call(task),
+                result -> {
+                    if (isCurrent(slot, handle) && onSuccessFx != null) {
+                        onSuccessFx.accept(result);
+                    }
+                },
+                error -> {
+                    if (!handle.isCancelled() && onErrorFx != null) {
+                        onErrorFx.accept(error);
+                    }
+                });
+        return handle;
+    }
+
+    /**
+     * Create a handle for a load driven elsewhere (e.g. {@link DashboardLoader}), superseding the slot's previous load
+     */
+    public LoadHandle begin(String slot) {
+        LoadHandle handle = new LoadHandle(generations.incrementAndGet());
+        LoadHandle previous;
+        synchronized (slots) {
+            previous = slots.put(slot, handle);
+        }
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (closed) {
+            handle.cancel();
+        }
+        return handle;
+    }
+
+    /**
+     * Whether the handle is still the newest, uncancelled load of its slot
+     */
+    public boolean isCurrent(String slot, LoadHandle handle) {
+        if (handle.isCancelled()) return false;
+        synchronized (slots) {
+            LoadHandle latest = slots.get(slot);
+            return latest != null && latest.getGeneration() == handle.getGeneration();
+        }
+    }
+
+    /**
+     * Wrap a UI update (e.g. a cache revalidation callback) so it runs on the FX thread
+     * and is dropped once the scope has been closed
+     */
+    public <T> Consumer<T> onFx(Consumer<T> update) {
+        return value -> Platform.runLater(() -> {
+            if (!closed) update.accept(value);
+        });
+    }
+
+    /**
+     * Cancel every load in this scope; later loads are cancelled immediately
+     */
+    public void close() {
+        closed = true;
+        List<LoadHandle> handles;
+        synchronized (slots) {
+            handles = new ArrayList<>(slots.values());
+        }
+        handles.forEach(LoadHandle::cancel);
+    }
+
+    /**
+     * Accept loads again after {@link #cancelAll()} closed this scope, for a controller whose
+     * view is cached and shown again (see {@link ViewLifecycle#onShow()})
+     */
+    public void reopen() {
+        closed = false;
+        synchronized (liveScopes) {
+            liveScopes.add(this);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+}
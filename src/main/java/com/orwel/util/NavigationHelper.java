@@ -1,53 +1,73 @@
 package com.orwel.util;
 
+import com.orwel.service.ApiService;
+
 import java.io.IOException;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.stage.Stage;
 
+/**
+ * Screen switching on the application's single Scene
+ * Screens are swapped by replacing the scene root, so the stylesheet is applied once and the stage
+ * stays fullscreen. Views whose controller implements {@link ViewLifecycle} are kept in an LRU cache
+ * of {@value #VIEW_CACHE_SIZE} and shown again without reparsing the FXML; the screens a user is
+ * likely to open next are parsed in the background. Other views are loaded fresh every time
+ */
 public class NavigationHelper {
+    private static final int VIEW_CACHE_SIZE = 6;
+    private static final String STYLESHEET = "/styles.css";
+
+    // Screens worth preparing while the user looks at the current one
+    private static final Map<String, List<String>> LIKELY_NEXT = Map.of(
+            "/fxml/Landing.fxml", List.of("/fxml/Dashboard.fxml"),
+            "/fxml/Login.fxml", List.of("/fxml/Dashboard.fxml"),
+            "/fxml/Register.fxml", List.of("/fxml/Dashboard.fxml"),
+            "/fxml/Dashboard.fxml", List.of("/fxml/News.fxml", "/fxml/Countries.fxml"),
+            "/fxml/News.fxml", List.of("/fxml/Dashboard.fxml", "/fxml/Countries.fxml"),
+            "/fxml/Countries.fxml", List.of("/fxml/Dashboard.fxml", "/fxml/News.fxml"),
+            "/fxml/CountryDetail.fxml", List.of("/fxml/Countries.fxml"),
+            "/fxml/Profile.fxml", List.of("/fxml/Dashboard.fxml"));
+
+    // Only touched on the FX thread
+    private static final Map<String, View> viewCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, View> eldest) {
+            return size() > VIEW_CACHE_SIZE;
+        }
+    };
+    private static View current;
+
+    private record View(Parent root, Object controller) {
+        boolean isReusable() {
+            return controller instanceof ViewLifecycle;
+        }
+    }
+
     /**
      * Navigate to a new FXML page with proper CSS styling and error handling
-     * @param sourceNode The node from the current scene (used to get the stage)
+     * @param sourceNode The node from the current scene (used to get the scene)
      * @param fxmlPath The path to the FXML file (e.g., "/fxml/Dashboard.fxml")
+     * @return The page's controller, or null if navigation failed
      */
-    public static void navigate(Node sourceNode, String fxmlPath) {
+    public static <T> T navigate(Node sourceNode, String fxmlPath) {
         if (sourceNode == null || sourceNode.getScene() == null) {
             System.err.println("Invalid source node for navigation");
-            return;
+            return null;
         }
-        
+
+        Scene scene = sourceNode.getScene();
         try {
-            java.net.URL resource = NavigationHelper.class.getResource(fxmlPath);
-            if (resource == null) {
-                throw new IOException("Resource not found: " + fxmlPath);
-            }
-            
-            Parent root = FXMLLoader.load(resource);
-            if (root == null) {
-                throw new IOException("Failed to load FXML root");
-            }
-            
-            Stage stage = (Stage) sourceNode.getScene().getWindow();
-            if (stage == null) {
-                throw new IOException("Stage not found");
-            }
-            
-            Scene scene = new Scene(root);
-            
-            // Always apply CSS stylesheet
-            java.net.URL cssResource = NavigationHelper.class.getResource("/styles.css");
-            if (cssResource != null) {
-                scene.getStylesheets().add(cssResource.toExternalForm());
-            }
-            
-            stage.setScene(scene);
-            // Ensure fullscreen mode is maintained
-            stage.setFullScreen(true);
-            stage.setFullScreenExitHint("");
+            T controller = show(scene, fxmlPath);
+            // A cached view may still be faded out from when it was left with a transition
+            scene.getRoot().setOpacity(1);
+            return controller;
         } catch (IOException e) {
             System.err.println("Failed to load FXML: " + fxmlPath);
             System.err.println("Error details: " + e.getMessage());
@@ -57,30 +77,29 @@ public class NavigationHelper {
             System.err.println("Unexpected error during navigation: " + fxmlPath);
             e.printStackTrace();
         }
+        return null;
     }
-    
+
     /**
      * Navigate with fade transition animation
      */
     public static void navigateWithTransition(Node sourceNode, String fxmlPath) {
         try {
             // Fade out current scene
-            Parent currentRoot = sourceNode.getScene().getRoot();
-            javafx.animation.FadeTransition fadeOut = AnimationUtils.pageTransition(currentRoot, false);
+            Scene scene = sourceNode.getScene();
+            javafx.animation.FadeTransition fadeOut = AnimationUtils.pageTransition(scene.getRoot(), false);
             fadeOut.setOnFinished(e -> {
                 try {
-                    Parent root = FXMLLoader.load(NavigationHelper.class.getResource(fxmlPath));
+                    show(scene, fxmlPath);
+                    Parent root = scene.getRoot();
                     root.setOpacity(0);
-                    Stage stage = (Stage) sourceNode.getScene().getWindow();
-                    Scene scene = new Scene(root);
-                    scene.getStylesheets().add(NavigationHelper.class.getResource("/styles.css").toExternalForm());
-                    stage.setScene(scene);
-                    
+
                     // Fade in new scene
                     AnimationUtils.pageTransition(root, true).play();
                 } catch (IOException ex) {
                     System.err.println("Failed to load FXML: " + fxmlPath);
                     ex.printStackTrace();
+                    scene.getRoot().setOpacity(1);
                 }
             });
             fadeOut.play();
@@ -89,4 +108,81 @@ public class NavigationHelper {
             navigate(sourceNode, fxmlPath);
         }
     }
+
+    /**
+     * Make a page the root of the scene, reusing its cached view when there is one
+     * @return The page's controller
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T show(Scene scene, String fxmlPath) throws IOException {
+        // Abort the current screen's loads so late results don't land on a hidden or discarded controller
+        // (before loading: a freshly loaded controller may start its own loads in initialize())
+        LoadScope.cancelAll();
+        if (current != null && current.controller() instanceof ViewLifecycle lifecycle) {
+            lifecycle.onHide();
+        }
+
+        View next = viewCache.get(fxmlPath);
+        if (next == null) {
+            next = load(fxmlPath);
+            if (next.isReusable()) {
+                viewCache.put(fxmlPath, next);
+            }
+        }
+
+        URL stylesheet = NavigationHelper.class.getResource(STYLESHEET);
+        if (stylesheet != null && !scene.getStylesheets().contains(stylesheet.toExternalForm())) {
+            scene.getStylesheets().add(stylesheet.toExternalForm());
+        }
+        scene.setRoot(next.root());
+        current = next;
+
+        if (next.controller() instanceof ViewLifecycle lifecycle) {
+            lifecycle.onShow();
+        }
+        preloadLikelyNext(fxmlPath);
+        return (T) next.controller();
+    }
+
+    /**
+     * End the session and go to the login page
+     * Cached views are dropped too, so hidden screens don't keep the previous user's data
+     * @param sourceNode The node from the current scene (used to get the scene)
+     */
+    public static void logout(Node sourceNode) {
+        ApiService.getInstance().logout();
+        viewCache.clear();
+        navigate(sourceNode, "/fxml/Login.fxml");
+    }
+
+    private static View load(String fxmlPath) throws IOException {
+        URL resource = NavigationHelper.class.getResource(fxmlPath);
+        if (resource == null) {
+            throw new IOException("Resource not found: " + fxmlPath);
+        }
+
+        FXMLLoader loader = new FXMLLoader(resource);
+        Parent root = loader.load();
+        if (root == null) {
+            throw new IOException("Failed to load FXML root");
+        }
+        return new View(root, loader.getController());
+    }
+
+    /**
+     * Parse the likely next screens in the background so opening them is just a root swap
+     * Building nodes off the FX thread is allowed while they aren't part of a shown scene; the
+     * controllers' initialize() runs there too, so it must stay FX-thread-free (see {@link ViewLifecycle})
+     */
+    private static void preloadLikelyNext(String fxmlPath) {
+        for (String next : LIKELY_NEXT.getOrDefault(fxmlPath, List.of())) {
+            if (viewCache.containsKey(next)) continue;
+            TaskScheduler.runInBackground(() -> load(next), view -> {
+                // Views that can't be reused would be loaded again anyway
+                if (view.isReusable() && !viewCache.containsKey(next)) {
+                    viewCache.put(next, view);
+                }
+            }, e -> System.err.println("Preloading " + next + " failed: " + e.getMessage()));
+        }
+    }
 }
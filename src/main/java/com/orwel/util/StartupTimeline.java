@@ -0,0 +1,183 @@
+package com.orwel.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Named spans of the launch, measured from JVM start, up to the landing page's first pulse
+ * Each span is also committed as a {@code com.orwel.StartupSpan} JFR event, visible when the app
+ * runs with {@code -XX:StartFlightRecording}.
+ * With {@code -Dorwel.startup.check=true} the app quits once the landing page is up and exits
+ * non-zero if time-to-interactive exceeded {@code -Dorwel.startup.maxTtiMs} (default {@value #DEFAULT_MAX_TTI_MS} ms).
+ * Time-to-interactive runs from JVM start until the first frame showing the landing page has been
+ * rendered: JVM and JavaFX startup, bootstrap, FXML loading, CSS, layout and that frame, but not
+ * the rest of the landing page's fade-in
+ */
+public class StartupTimeline {
+    // Marked once the first frame showing the landing page has rendered
+    public static final String INTERACTIVE = "interactive";
+
+    private static final long DEFAULT_MAX_TTI_MS = 5000;
+
+    private static final long JVM_START_MS = ManagementFactory.getRuntimeMXBean().getStartTime();
+    // Offsets are taken from nanoTime, anchored once to wall-clock time since JVM start
+    private static final long ANCHOR_NANOS = System.nanoTime();
+    private static final double ANCHOR_OFFSET_MS = System.currentTimeMillis() - JVM_START_MS;
+
+    private static final List<Span> spans = new ArrayList<>();
+    private static boolean dumped = false;
+
+    /**
+     * One recorded span; marks are spans with no duration
+     */
+    public static class Span implements AutoCloseable {
+        private final String name;
+        private final String thread;
+        private final long startNanos;
+        private final StartupSpanEvent event = new StartupSpanEvent();
+        private final boolean mark;
+        private long endNanos = -1;
+
+        private Span(String name, boolean mark) {
+            this.name = name;
+            this.mark = mark;
+            this.thread = Thread.currentThread().getName();
+            this.event.begin();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * End the span (later calls are ignored)
+         */
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (endNanos >= 0) return;
+                endNanos = System.nanoTime();
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.span = name;
+                event.offsetFromJvmStart = Math.round(offsetMs(startNanos) * 1_000_000);
+                event.commit();
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getStartMs() {
+            return offsetMs(startNanos);
+        }
+
+        /**
+         * @return Duration, or -1 while the span is still open
+         */
+        public synchronized double getDurationMs() {
+            return endNanos < 0 ? -1 : (endNanos - startNanos) / 1e6;
+        }
+    }
+
+    @Name("com.orwel.StartupSpan")
+    @Label("Startup Span")
+    @Category({"Orwel", "Startup"})
+    @Description("A named phase of application launch")
+    static class StartupSpanEvent extends Event {
+        @Label("Span")
+        String span;
+
+        @Label("Offset From JVM Start")
+        @Timespan(Timespan.NANOSECONDS)
+        long offsetFromJvmStart;
+    }
+
+    /**
+     * Start a span; close it with {@link Span#close()} (in a finally block) when the phase ends
+     */
+    public static Span begin(String name) {
+        return record(new Span(name, false));
+    }
+
+    /**
+     * Record a point in time
+     */
+    public static void mark(String name) {
+        record(new Span(name, true)).close();
+    }
+
+    private static Span record(Span span) {
+        synchronized (spans) {
+            spans.add(span);
+        }
+        return span;
+    }
+
+    /**
+     * Milliseconds from JVM start to the {@link #INTERACTIVE} mark, or -1 if it hasn't been recorded
+     */
+    public static double getTimeToInteractiveMs() {
+        synchronized (spans) {
+            for (Span span : spans) {
+                if (span.name.equals(INTERACTIVE)) {
+                    return span.getStartMs();
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Print the timeline once, ordered by start time
+     */
+    public static void dump() {
+        List<Span> sorted;
+        synchronized (spans) {
+            if (dumped) return;
+            dumped = true;
+            sorted = new ArrayList<>(spans);
+        }
+        sorted.sort(Comparator.comparingDouble(Span::getStartMs));
+
+        System.out.println("Startup timeline (ms from JVM start):");
+        System.out.println(String.format("  %-24s %9s %9s  %s", "span", "start", "duration", "thread"));
+        for (Span span : sorted) {
+            double duration = span.getDurationMs();
+            String shown = span.mark ? "" : duration < 0 ? "open" : String.format("%.1f", duration);
+            System.out.println(String.format("  %-24s %9.1f %9s  %s", span.name, span.getStartMs(), shown, span.thread));
+        }
+    }
+
+    /**
+     * Whether the app should quit after startup and report (CI mode)
+     */
+    public static boolean isCheckMode() {
+        return Boolean.getBoolean("orwel.startup.check");
+    }
+
+    /**
+     * Compare time-to-interactive against the configured threshold
+     * @return true if within the threshold
+     */
+    public static boolean checkTimeToInteractive() {
+        long maxMs = Long.getLong("orwel.startup.maxTtiMs", DEFAULT_MAX_TTI_MS);
+        double ttiMs = getTimeToInteractiveMs();
+        boolean ok = ttiMs >= 0 && ttiMs <= maxMs;
+        System.out.println(String.format("Time to interactive: %.1f ms (limit %d ms) - %s",
+                ttiMs, maxMs, ok ? "OK" : "REGRESSION"));
+        return ok;
+    }
+
+    private static double offsetMs(long nanos) {
+        return ANCHOR_OFFSET_MS + (nanos - ANCHOR_NANOS) / 1e6;
+    }
+}
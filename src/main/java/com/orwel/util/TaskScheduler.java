@@ -0,0 +1,158 @@
+package com.orwel.util;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Application-wide executor for background work started from the UI
+ * Uses one virtual thread per task on JDK 21+, otherwise a bounded pool of named
+ * daemon threads. At most {@value #MAX_PENDING_TASKS} tasks may be queued or running;
+ * further submissions are rejected instead of piling up threads
+ */
+public class TaskScheduler {
+    private static final String THREAD_PREFIX = "orwel-task-";
+    private static final int MAX_PENDING_TASKS = 256;
+    private static final int PLATFORM_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final long SHUTDOWN_GRACE_MS = 2000;
+
+    private static final ExecutorService executor = createExecutor();
+    private static final Semaphore permits = new Semaphore(MAX_PENDING_TASKS);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(TaskScheduler::shutdown, THREAD_PREFIX + "shutdown"));
+    }
+
+    /**
+     * Run a task in the background and hand its outcome to the FX thread
+     * @param task Blocking work (network, database)
+     * @param onSuccessFx Called on the FX thread with the result; may be null
+     * @param onErrorFx Called on the FX thread if the task throws or the scheduler is saturated; may be null
+     * @return Future of the task result
+     */
+    public static <T> CompletableFuture<T> runInBackground(Callable<T> task, Consumer<T> onSuccessFx,
+                                                           Consumer<Exception> onErrorFx) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!permits.tryAcquire()) {
+            fail(future, new RejectedExecutionException("Too many background tasks pending"), onErrorFx);
+            return future;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    T result = task.call();
+                    future.complete(result);
+                    if (onSuccessFx != null) {
+                        Platform.runLater(() -> onSuccessFx.accept(result));
+                    }
+                } catch (Exception e) {
+                    fail(future, e, onErrorFx);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            fail(future, e, onErrorFx);
+        }
+        return future;
+    }
+
+    /**
+     * Run a task in the background, logging any failure
+     */
+    public static CompletableFuture<Void> runInBackground(Runnable task) {
+        return runInBackground(() -> {
+            task.run();
+            return null;
+        }, null, null);
+    }
+
+    /**
+     * The underlying executor, for code that fans out its own bounded set of tasks
+     * (e.g. {@link DashboardLoader}); submissions here bypass the pending-task limit
+     */
+    public static Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Stop accepting tasks and give running ones a short grace period
+     */
+    public static void shutdown() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_GRACE_MS, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> void fail(CompletableFuture<T> future, Exception error, Consumer<Exception> onErrorFx) {
+        future.completeExceptionally(error);
+        if (onErrorFx != null) {
+            Platform.runLater(() -> onErrorFx.accept(error));
+        } else {
+            System.err.println("Background task failed: " + error.getMessage());
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        ExecutorService virtual = createVirtualThreadExecutor();
+        if (virtual != null) {
+            System.out.println("Task scheduler: virtual threads");
+            return virtual;
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger(1);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(PLATFORM_POOL_SIZE, PLATFORM_POOL_SIZE,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, THREAD_PREFIX + threadCounter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        System.out.println("Task scheduler: " + PLATFORM_POOL_SIZE + " platform threads");
+        return pool;
+    }
+
+    /**
+     * Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(...).factory()), looked up
+     * reflectively because the project is compiled for Java 17
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_PREFIX, 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            System.err.println("Virtual threads unavailable, using a platform pool: " + e.getMessage());
+            return null;
+        }
+    }
+}
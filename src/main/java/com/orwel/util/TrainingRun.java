@@ -0,0 +1,58 @@
+package com.orwel.util;
+
+import com.orwel.model.User;
+import com.orwel.service.ApiService;
+import com.orwel.service.UserDatabase;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.sql.SQLException;
+
+/**
+ * Scripted walk through Landing → Login → Dashboard for building the AppCDS archive
+ * Enabled with {@code -Dorwel.cds.training=true} (see scripts/build-runtime.sh); the JVM is
+ * started with {@code -XX:ArchiveClassesAtExit}, so every class loaded on the way ends up in
+ * the archive when this exits
+ */
+public class TrainingRun {
+    private static final String DEMO_EMAIL = "demo@orwel.com";
+    private static final Duration SCREEN_DWELL = Duration.seconds(2);
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("orwel.cds.training");
+    }
+
+    /**
+     * Continue from the landing page; exits the JVM at the end
+     */
+    public static void start(Stage stage) {
+        System.out.println("CDS training run: Landing → Login → Dashboard");
+        after(SCREEN_DWELL, () -> {
+            NavigationHelper.navigate(stage.getScene().getRoot(), "/fxml/Login.fxml");
+            after(SCREEN_DWELL, () -> {
+                // Same state a successful offline login leaves behind
+                try {
+                    User demo = UserDatabase.getUserByEmail(DEMO_EMAIL);
+                    ApiService.getInstance().setCurrentUser(demo);
+                } catch (SQLException e) {
+                    System.err.println("CDS training run: demo user unavailable: " + e.getMessage());
+                }
+                NavigationHelper.navigate(stage.getScene().getRoot(), "/fxml/Dashboard.fxml");
+                // Let the dashboard's background loads finish (or fail offline) before exiting
+                after(SCREEN_DWELL.multiply(2), () -> {
+                    System.out.println("CDS training run finished");
+                    Platform.exit();
+                    System.exit(0);
+                });
+            });
+        });
+    }
+
+    private static void after(Duration delay, Runnable action) {
+        PauseTransition pause = new PauseTransition(delay);
+        pause.setOnFinished(e -> action.run());
+        pause.play();
+    }
+}
@@ -0,0 +1,23 @@
+package com.orwel.util;
+
+/**
+ * Implemented by controllers whose view {@link NavigationHelper} may keep and show again
+ * instead of reloading the FXML. Such a controller's initialize() should only build the UI
+ * (it may run in the background when the view is preloaded); loading data, playing animations
+ * and anything else that needs the FX thread belongs in {@link #onShow()}
+ */
+public interface ViewLifecycle {
+
+    /**
+     * Called on the FX thread each time the view becomes the scene root, including the first time
+     * Loads of the controller's {@link LoadScope} were cancelled when the previous screen was left,
+     * so reopen it before starting new ones
+     */
+    void onShow();
+
+    /**
+     * Called on the FX thread just before the view is replaced by another screen
+     */
+    default void onHide() {
+    }
+}
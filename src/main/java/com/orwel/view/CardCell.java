@@ -0,0 +1,63 @@
+package com.orwel.view;
+
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.layout.VBox;
+
+/**
+ * List cell that shows an item as a stack of labels
+ * The node graph is built once per cell in the subclass constructor; {@link #render} only sets
+ * text and visibility, so scrolling (which rebinds a handful of cells to new items every frame)
+ * creates no nodes and no inline styles. Looks come from the card-cell and cell-* classes in styles.css
+ */
+public abstract class CardCell<T> extends ListCell<T> {
+    protected final VBox card = new VBox();
+
+    protected CardCell(String... styleClasses) {
+        card.getStyleClass().addAll(styleClasses);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    /**
+     * Fill the card's nodes from the item; called for every (re)binding of the cell
+     */
+    protected abstract void render(T item);
+
+    @Override
+    protected final void updateItem(T item, boolean empty) {
+        super.updateItem(item, empty);
+        if (empty || item == null) {
+            setGraphic(null);
+        } else {
+            render(item);
+            setGraphic(card);
+        }
+    }
+
+    /**
+     * Create a label with the given style classes and append it to the card
+     */
+    protected Label addLabel(String... styleClasses) {
+        Label label = new Label();
+        label.getStyleClass().addAll(styleClasses);
+        card.getChildren().add(label);
+        return label;
+    }
+
+    protected Label addWrappingLabel(String... styleClasses) {
+        Label label = addLabel(styleClasses);
+        label.setWrapText(true);
+        return label;
+    }
+
+    /**
+     * Show the text, or take the label out of the layout when there is none
+     */
+    protected static void show(Label label, String text) {
+        boolean visible = text != null && !text.isEmpty();
+        label.setText(visible ? text : null);
+        label.setVisible(visible);
+        label.setManaged(visible);
+    }
+}
@@ -0,0 +1,15 @@
+package com.orwel.view;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Shared date formatters for list cells; DateTimeFormatter is immutable and thread-safe,
+ * so one instance serves every cell
+ */
+public final class Formats {
+    public static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("MMM dd, yyyy");
+    public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm");
+
+    private Formats() {
+    }
+}
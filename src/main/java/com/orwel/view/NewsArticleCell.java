@@ -0,0 +1,123 @@
+package com.orwel.view;
+
+import com.orwel.model.NewsArticle;
+import com.orwel.service.LocalSearchIndex;
+import javafx.css.PseudoClass;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextFlow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * News article card: title, summary (or a local search snippet with the matches in bold) and
+ * source/date/country/relevance line. Double-clicking opens the article in the browser
+ */
+public class NewsArticleCell extends CardCell<NewsArticle> {
+    private static final PseudoClass MATCH = PseudoClass.getPseudoClass("match");
+    private static final Pattern HIGHLIGHT_MARKERS =
+            Pattern.compile("[" + LocalSearchIndex.HIGHLIGHT_START + LocalSearchIndex.HIGHLIGHT_END + "]");
+
+    private final Label titleLabel;
+    private final Label summaryLabel;
+    private final TextFlow snippetFlow = new TextFlow();
+    // Text runs of the snippet, kept across items and grown only when a snippet has more runs
+    private final List<Text> snippetRuns = new ArrayList<>();
+    private final Label sourceLabel = new Label();
+    private final Label dateLabel = new Label();
+    private final Label countryLabel = new Label();
+    private final Label relevanceLabel = new Label();
+    private final boolean compact;
+
+    /**
+     * Full card, as in the news feed
+     */
+    public NewsArticleCell() {
+        this(false);
+    }
+
+    /**
+     * @param compact Only title and summary, for short lists inside other pages
+     */
+    public NewsArticleCell(boolean compact) {
+        super(compact ? "card-cell-compact" : "card-cell-padded");
+        this.compact = compact;
+        titleLabel = addWrappingLabel(compact ? "cell-heading" : "cell-title");
+        summaryLabel = addWrappingLabel("cell-summary");
+        if (!compact) {
+            snippetFlow.getStyleClass().add("cell-snippet");
+            sourceLabel.getStyleClass().add("cell-meta");
+            dateLabel.getStyleClass().add("cell-meta");
+            countryLabel.getStyleClass().add("cell-meta");
+            relevanceLabel.getStyleClass().add("cell-relevance");
+            HBox metaBox = new HBox(10, sourceLabel, dateLabel, countryLabel, relevanceLabel);
+            card.getChildren().addAll(snippetFlow, metaBox);
+        }
+
+        setOnMouseClicked(e -> {
+            NewsArticle article = getItem();
+            if (e.getClickCount() == 2 && !isEmpty() && article != null && article.getUrl() != null) {
+                try {
+                    java.awt.Desktop.getDesktop().browse(new java.net.URI(article.getUrl()));
+                } catch (Exception ex) {
+                    // Could not open browser
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void render(NewsArticle article) {
+        titleLabel.setText(article.getTitle());
+        if (compact) {
+            show(summaryLabel, article.getSummary());
+            return;
+        }
+
+        String snippet = article.getSearchSnippet();
+        if (snippet != null) {
+            show(summaryLabel, null);
+            showSnippet(snippet);
+        } else {
+            show(summaryLabel, article.getSummary());
+            snippetFlow.setVisible(false);
+            snippetFlow.setManaged(false);
+        }
+
+        show(sourceLabel, article.getSource() != null ? "Source: " + article.getSource() : null);
+        show(dateLabel, article.getPublishedAt() != null ? Formats.DATE_TIME.format(article.getPublishedAt()) : null);
+        show(countryLabel, article.getCountryCode() != null ? "Country: " + article.getCountryCode() : null);
+        Double score = article.getRelevanceScore();
+        show(relevanceLabel, score != null && score > 0 ? "Relevance: " + Math.round(score * 100) + "%" : null);
+    }
+
+    /**
+     * Lay out the snippet as alternating plain and matched runs (the markers toggle highlighting)
+     */
+    private void showSnippet(String snippet) {
+        String[] parts = HIGHLIGHT_MARKERS.split(snippet, -1);
+        int used = 0;
+        boolean highlighted = false;
+        for (String part : parts) {
+            if (!part.isEmpty()) {
+                if (used == snippetRuns.size()) {
+                    Text run = new Text();
+                    run.getStyleClass().add("cell-snippet-text");
+                    snippetRuns.add(run);
+                }
+                Text run = snippetRuns.get(used++);
+                run.setText(part);
+                run.pseudoClassStateChanged(MATCH, highlighted);
+            }
+            highlighted = !highlighted;
+        }
+        if (snippetFlow.getChildren().size() != used) {
+            snippetFlow.getChildren().setAll(snippetRuns.subList(0, used));
+        }
+        snippetFlow.setVisible(true);
+        snippetFlow.setManaged(true);
+    }
+}
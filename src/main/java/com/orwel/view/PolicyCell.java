@@ -0,0 +1,21 @@
+package com.orwel.view;
+
+import com.orwel.model.Policy;
+import javafx.scene.control.Label;
+
+public class PolicyCell extends CardCell<Policy> {
+    private final Label titleLabel = addLabel("cell-heading");
+    private final Label descriptionLabel = addWrappingLabel();
+    private final Label categoryLabel = addLabel("cell-meta");
+
+    public PolicyCell() {
+        super("card-cell-compact");
+    }
+
+    @Override
+    protected void render(Policy policy) {
+        titleLabel.setText(policy.getTitle());
+        descriptionLabel.setText(policy.getDescription());
+        categoryLabel.setText("Category: " + policy.getCategory());
+    }
+}
@@ -0,0 +1,21 @@
+package com.orwel.view;
+
+import com.orwel.model.Stance;
+import javafx.scene.control.Label;
+
+public class StanceCell extends CardCell<Stance> {
+    private final Label topicLabel = addLabel("cell-heading");
+    private final Label positionLabel = addLabel("cell-position");
+    private final Label descriptionLabel = addWrappingLabel();
+
+    public StanceCell() {
+        super("card-cell-compact");
+    }
+
+    @Override
+    protected void render(Stance stance) {
+        topicLabel.setText(stance.getTopic());
+        positionLabel.setText("Position: " + stance.getPosition());
+        descriptionLabel.setText(stance.getDescription());
+    }
+}
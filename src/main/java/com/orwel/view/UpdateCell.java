@@ -0,0 +1,74 @@
+package com.orwel.view;
+
+import com.orwel.model.CommitteeMaterial;
+import com.orwel.model.Legislation;
+import com.orwel.model.Nomination;
+import com.orwel.model.Treaty;
+import javafx.css.PseudoClass;
+import javafx.scene.control.Label;
+
+/**
+ * Card for the mixed legislation/hearing/nomination/treaty list of the updates page
+ * The kind of update is shown by the type label, colored through a pseudo-class per kind
+ */
+public class UpdateCell extends CardCell<Object> {
+    private static final PseudoClass LEGISLATION = PseudoClass.getPseudoClass("legislation");
+    private static final PseudoClass HEARING = PseudoClass.getPseudoClass("hearing");
+    private static final PseudoClass NOMINATION = PseudoClass.getPseudoClass("nomination");
+    private static final PseudoClass TREATY = PseudoClass.getPseudoClass("treaty");
+
+    private final Label typeLabel = addLabel("cell-type");
+    private final Label titleLabel = addWrappingLabel("cell-title");
+    private final Label detailLabel = addLabel("cell-detail");
+    private final Label summaryLabel = addWrappingLabel("cell-summary");
+    private final Label dateLabel = addLabel("cell-meta");
+    private final Label statusLabel = addLabel("cell-status");
+
+    public UpdateCell() {
+        super("card-cell-padded");
+    }
+
+    @Override
+    protected void render(Object item) {
+        if (item instanceof Legislation leg) {
+            setType(LEGISLATION, "📜 LEGISLATION");
+            titleLabel.setText(leg.getRefCode() + ": " + leg.getTitle());
+            show(detailLabel, null);
+            show(summaryLabel, leg.getSummary());
+            show(dateLabel, "Introduced: " + (leg.getDateIntroduced() != null
+                    ? Formats.DATE.format(leg.getDateIntroduced()) : "Unknown"));
+            show(statusLabel, "Status: " + leg.getCurrentStatus());
+        } else if (item instanceof CommitteeMaterial hearing) {
+            setType(HEARING, "🎙️ HEARING");
+            titleLabel.setText(hearing.getTitle());
+            show(detailLabel, null);
+            show(summaryLabel, hearing.getOfficialSummary());
+            show(dateLabel, "Date: " + (hearing.getEventDate() != null
+                    ? Formats.DATE.format(hearing.getEventDate()) : "TBD"));
+            show(statusLabel, null);
+        } else if (item instanceof Nomination nom) {
+            setType(NOMINATION, "👤 NOMINATION");
+            String memberName = nom.getMember() != null ? nom.getMember().getFullName() : "Unknown";
+            titleLabel.setText(memberName + " - " + nom.getPositionTitle());
+            show(detailLabel, nom.getTargetOrganization());
+            show(summaryLabel, nom.getOfficialSummary());
+            show(dateLabel, null);
+            show(statusLabel, "Status: " + nom.getCurrentStatus());
+        } else if (item instanceof Treaty treaty) {
+            setType(TREATY, "🤝 TREATY");
+            titleLabel.setText(treaty.getTitle());
+            show(detailLabel, "Partner: " + treaty.getForeignPartner());
+            show(summaryLabel, treaty.getOfficialSummary());
+            show(dateLabel, null);
+            show(statusLabel, "Status: " + treaty.getCurrentStatus());
+        }
+    }
+
+    private void setType(PseudoClass kind, String text) {
+        typeLabel.setText(text);
+        typeLabel.pseudoClassStateChanged(LEGISLATION, kind == LEGISLATION);
+        typeLabel.pseudoClassStateChanged(HEARING, kind == HEARING);
+        typeLabel.pseudoClassStateChanged(NOMINATION, kind == NOMINATION);
+        typeLabel.pseudoClassStateChanged(TREATY, kind == TREATY);
+    }
+}
@@ -0,0 +1,24 @@
+package com.orwel.view;
+
+import com.orwel.model.Warning;
+import javafx.scene.control.Label;
+
+import java.util.Locale;
+
+public class WarningCell extends CardCell<Warning> {
+    private final Label titleLabel = addLabel("cell-heading", "cell-alert");
+    private final Label messageLabel = addWrappingLabel();
+    private final Label severityLabel = addLabel("cell-meta");
+
+    public WarningCell() {
+        super("card-cell-compact");
+    }
+
+    @Override
+    protected void render(Warning warning) {
+        titleLabel.setText(warning.getTitle());
+        messageLabel.setText(warning.getMessage());
+        show(severityLabel, warning.getSeverity() != null
+                ? "Severity: " + warning.getSeverity().toUpperCase(Locale.ROOT) : null);
+    }
+}
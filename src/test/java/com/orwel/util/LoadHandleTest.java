@@ -0,0 +1,58 @@
+package com.orwel.util;
+
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadHandleTest {
+    private final OkHttpClient client = new OkHttpClient();
+
+    private Call newCall() {
+        return client.newCall(new Request.Builder().url("http://localhost/").build());
+    }
+
+    @Test
+    void finishedCallDoesNotUntrackCallsStillInFlightOnSharedHandle() throws Exception {
+        LoadHandle handle = new LoadHandle(1);
+        Call first = newCall();
+        Call second = newCall();
+        CountDownLatch secondTracked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> slow = pool.submit(() -> handle.call(() -> {
+                LoadHandle.track(second);
+                secondTracked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }));
+            assertTrue(secondTracked.await(5, TimeUnit.SECONDS));
+
+            // The other section finishes while the slow one is still in flight
+            pool.submit(() -> handle.call(() -> {
+                LoadHandle.track(first);
+                return null;
+            })).get(5, TimeUnit.SECONDS);
+
+            handle.cancel();
+            assertTrue(second.isCanceled(), "in-flight call of the other invocation must be aborted");
+            assertFalse(first.isCanceled(), "a finished invocation's call is no longer tracked");
+
+            release.countDown();
+            slow.get(5, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}